@@ -0,0 +1,46 @@
+// 대시보드 API 동시 요청 부하 테스트 (플랫폼 스레드 풀 모드 vs 가상 스레드 모드 비교)
+//
+// 1) 기존 모드로 서버 실행 후:
+//      k6 run -e MODE=platform loadtest/dashboard-threads.js
+// 2) 가상 스레드 모드(--spring.profiles.active=...,virtual)로 서버 재실행 후:
+//      k6 run -e MODE=virtual loadtest/dashboard-threads.js
+// 3) 두 실행의 summary (http_req_duration p95/p99, http_reqs, http_req_failed) 를 비교
+//    서버 쪽은 Grafana 에서 dashboard.get, jvm.threads.*, hikaricp.connections.pending 을 함께 확인
+//
+// 멤버 서비스 지연은 MemberStubController 지연 주입(member.stub.delay-ms 등)으로 맞춰 두 모드를 같은 조건에서 측정합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8085';
+const MODE = __ENV.MODE || 'platform';
+const GROUP_IDS = (__ENV.GROUP_IDS || '1,2').split(',');
+const MEMBER_COUNT = Number(__ENV.MEMBER_COUNT || 100);
+
+export const options = {
+    scenarios: {
+        dashboard: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 2000 }, // 2,000 동시 요청까지 증가
+                { duration: '2m', target: 2000 },  // 유지
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: MODE },
+};
+
+export default function () {
+    const groupId = GROUP_IDS[__VU % GROUP_IDS.length];
+    const memberId = (__VU % MEMBER_COUNT) + 1;
+
+    const res = http.get(`${BASE_URL}/api/v2/study/dashboard/${groupId}`, {
+        headers: { 'X-Authorization-Id': String(memberId) },
+        timeout: '30s',
+    });
+
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
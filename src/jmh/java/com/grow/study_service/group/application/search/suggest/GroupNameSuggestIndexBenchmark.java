@@ -0,0 +1,77 @@
+package com.grow.study_service.group.application.search.suggest;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그룹 이름 10만 건 기준 자동 완성 조회 지연과 인덱스 메모리 사용량 측정.
+ *
+ * <p>실행: {@code ./gradlew jmh}
+ * 메모리 사용량은 Trial 시작 시 JOL 로 인덱스 객체 그래프 전체 크기를 출력합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GroupNameSuggestIndexBenchmark {
+
+    private static final List<String> TOPICS = List.of(
+            "자바", "스프링", "코틀린", "파이썬", "리액트", "알고리즘", "자료구조", "데이터베이스", "운영체제", "네트워크",
+            "토익", "토플", "영어회화", "일본어", "정보처리기사", "SQLD", "AWS", "Docker", "Kubernetes", "Spring Boot");
+    private static final List<String> KINDS = List.of("스터디", "모임", "챌린지", "멘토링", "프로젝트", "북클럽", "면접", "Study");
+    private static final List<String> TIMES = List.of("아침", "저녁", "주말", "평일", "새벽", "");
+
+    @Param({"100000"})
+    private int groupCount;
+
+    private GroupNameSuggestIndex index;
+    private String[] prefixes;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new GroupNameSuggestIndex(5);
+
+        for (int i = 1; i <= groupCount; i++) {
+            String name = pick(random, TOPICS) + " " + pick(random, TIMES) + " " + pick(random, KINDS) + " " + i;
+            index.upsert(i, name.replaceAll("\\s+", " "), random.nextInt(1000));
+        }
+
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String topic = pick(random, TOPICS);
+            prefixes[i] = topic.substring(0, 1 + random.nextInt(topic.length()));
+        }
+
+        System.out.printf("%n[suggest-index] groups=%d retained=%.1fMB%n",
+                index.size(), GraphLayout.parseInstance(index).totalSize() / 1024.0 / 1024.0);
+    }
+
+    @Benchmark
+    public List<String> suggest() {
+        return index.suggest(prefixes[cursor++ & (prefixes.length - 1)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<String> suggestConcurrent(ThreadCursor threadCursor) {
+        return index.suggest(prefixes[threadCursor.next() & (prefixes.length - 1)]);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        private int value;
+
+        int next() {
+            return value++;
+        }
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
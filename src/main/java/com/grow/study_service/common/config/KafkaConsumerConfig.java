@@ -0,0 +1,52 @@
+package com.grow.study_service.common.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+
+    /**
+     * poll 한 번에 받은 레코드를 List 로 한 번에 전달하는 배치 리스너 컨테이너 팩토리입니다.
+     * (기본 kafkaListenerContainerFactory 는 그대로 두고, containerFactory 로 지정한 리스너만 사용)
+     *
+     * <ul>
+     *   <li>오프셋은 리스너가 배치를 정상 처리한 뒤 배치 단위로 커밋 (AckMode.BATCH)</li>
+     *   <li>리스너가 BatchListenerFailedException 으로 실패 위치를 알리면 그 앞까지 커밋하고 실패 레코드부터 재시도</li>
+     *   <li>재시도(1초부터 2배씩 4회)를 모두 실패한 레코드는 {원래 토픽}.dlt 의 같은 파티션으로 전송</li>
+     * </ul>
+     */
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            KafkaTemplate<Object, Object> kafkaTemplate,
+            @Value("${kafka.consumer.batch.max-retries:4}") int maxRetries) {
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory); // spring.kafka.* 설정 그대로 적용
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, ex) -> new TopicPartition(record.topic() + ".dlt", record.partition()));
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+        backOff.setInitialInterval(1000L);
+        backOff.setMultiplier(2.0);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, backOff));
+        return factory;
+    }
+}
@@ -0,0 +1,28 @@
+package com.grow.study_service.common.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class KafkaProducerConfig {
+
+    /**
+     * outbox 릴레이가 배치로 발행하므로 재시도로 인한 중복/순서 뒤바뀜이 없도록 멱등 프로듀서로 설정합니다.
+     * (acks=all + enable.idempotence, in-flight 5 이하에서는 파티션 내 순서 보장)
+     */
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer idempotentProducerCustomizer() {
+        return producerFactory -> producerFactory.updateConfigs(Map.of(
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                ProducerConfig.ACKS_CONFIG, "all",
+                ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5,
+                ProducerConfig.LINGER_MS_CONFIG, 10, // 배치로 묶일 시간
+                ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024,
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4"
+        ));
+    }
+}
@@ -2,13 +2,18 @@ package com.grow.study_service.common.config;
 
 import io.micrometer.core.aop.CountedAspect;
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class MonitoringConfig {
 
+    private static final String CONNECTION_ACQUIRE_TIME = "reactor.netty.connection.provider.pending.connections.time";
+
     @Bean
     public CountedAspect countedAspect(MeterRegistry registry) {
         return new CountedAspect(registry);
@@ -18,4 +23,21 @@ public class MonitoringConfig {
     public TimedAspect timedAspect(MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    // WebClient 커넥션 획득 대기 시간을 히스토그램으로 내보냄 (Grafana 에서 p95 계산)
+    @Bean
+    public MeterFilter connectionAcquireTimeHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().equals(CONNECTION_ACQUIRE_TIME)) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
 }
@@ -3,12 +3,14 @@ package com.grow.study_service.common.config;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -16,15 +18,45 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class WebClientConfig {
 
+    public static final String MEMBER_SERVICE_POOL_NAME = "member-service"; // 메트릭 name 태그
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
 
+    /**
+     * 멤버 서비스 호출용 커넥션 풀
+     * 기본 ConnectionProvider 는 크기/대기열/유휴 정리를 조정할 수 없고 메트릭도 없어 획득 타임아웃 원인을 볼 수 없으므로,
+     * 이름 붙은 풀을 직접 만들고 Micrometer 메트릭(reactor.netty.connection.provider.*{name=member-service})을 켭니다.
+     * (활성/유휴/대기 커넥션 수, 커넥션 획득 대기 시간 → Grafana "Member API 커넥션 풀 지표")
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider memberServiceConnectionProvider(
+            @Value("${member.http.pool.max-connections:100}") int maxConnections, // 최대 커넥션 수
+            @Value("${member.http.pool.pending-acquire-max-count:500}") int pendingAcquireMaxCount, // 커넥션 대기열 최대 크기
+            @Value("${member.http.pool.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMillis, // 커넥션 획득 대기 시간
+            @Value("${member.http.pool.max-idle-time-ms:20000}") long maxIdleTimeMillis, // 유휴 커넥션 유지 시간 (서버 keep-alive 보다 짧게)
+            @Value("${member.http.pool.max-life-time-ms:300000}") long maxLifeTimeMillis, // 커넥션 최대 수명 (파드 교체 반영)
+            @Value("${member.http.pool.evict-interval-ms:30000}") long evictIntervalMillis) { // 백그라운드 유휴 커넥션 정리 주기
+
+        return ConnectionProvider.builder(MEMBER_SERVICE_POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMillis))
+                .evictInBackground(Duration.ofMillis(evictIntervalMillis))
+                .metrics(true) // Micrometer 글로벌 레지스트리에 풀 메트릭 등록
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(ConnectionProvider memberServiceConnectionProvider) {
         // HTTP 클라이언트 설정
-        HttpClient httpClient = HttpClient.create()
+        HttpClient httpClient = HttpClient.create(memberServiceConnectionProvider)
+                .keepAlive(true) // HTTP keep-alive 로 커넥션 재사용
+                .option(ChannelOption.SO_KEEPALIVE, true) // TCP keep-alive 로 끊긴 커넥션 감지
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000) // 연결 타임아웃: 10초
                 .responseTimeout(Duration.ofSeconds(30)) // 응답 타임아웃: 30초
                 .doOnConnected(conn ->
@@ -22,6 +22,10 @@ public enum ErrorCode {
     JOIN_REQUEST_NOT_FOUND("404", "해당 그룹에 참여 요청이 전송되지 않았습니다."),
     INVALID_DATE_RANGE("400", "시작 날짜는 종료 날짜보다 미래일 수 없습니다."),
     GROUP_ALREADY_EXISTS("409", "해당 이름은 이미 존재하는 그룹입니다. 그룹명과 카테고리를 확인해 주세요." ),
+    INVALID_CURSOR("400", "커서 값이 올바르지 않습니다. 첫 페이지부터 다시 조회해 주세요."),
+    GROUP_REINDEX_ALREADY_RUNNING("409", "그룹 검색 전체 재색인이 이미 진행 중입니다."),
+    SEARCH_PAGE_TOO_DEEP("400", "페이지 번호로 조회할 수 있는 검색 범위를 넘었습니다. 이전 응답의 nextCursor 로 이어서 조회해 주세요."),
+    INVALID_SEARCH_SIZE("400", "검색 결과 크기는 1 이상이어야 합니다."),
 
     /**
      * 📌 2. 그룹 멤버(Group Member) 관련
@@ -36,7 +40,6 @@ public enum ErrorCode {
     GROUP_OR_LEADER_NOT_FOUND("404", "그룹 또는 그룹의 리더를 찾을 수 없습니다. " ),
     ALREADY_ACCEPTED_REQUEST("409", "이미 가입 요청을 수락했습니다."),
     JOIN_REQUEST_MEMBER_NOT_FOUND("404", "해당 그룹에 참여 요청을 전송하지 않았거나 이미 처리된 가입 요청입니다."),
-    JOIN_REQUEST_ALREADY_REMOVED("409", "이미 처리된 가입 요청입니다." ),
 
     /**
      * 📌 3. 게시판(Board) 관련
@@ -0,0 +1,177 @@
+package com.grow.study_service.common.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 배치 리스너가 받은 레코드를 키(예: groupId) 단위 순서를 지키면서 여러 워커에서 동시에 처리합니다.
+ * 파티션 수보다 많은 병렬도로 처리할 수 있으며, 같은 키는 항상 같은 샤드(워커)에서 수신 순서대로 처리됩니다.
+ *
+ * <ul>
+ *   <li>키 해시로 레코드를 workers 개 샤드로 나누고, 샤드마다 고정 크기 풀의 작업 하나로 처리합니다.</li>
+ *   <li>모든 샤드가 끝난 뒤 반환하므로, 리스너가 정상 반환하면 배치 전체(연속된 오프셋)가 커밋됩니다.</li>
+ *   <li>실패한 샤드가 있으면 실패한 레코드 중 가장 앞의 위치로 {@link BatchListenerFailedException} 을 던집니다.
+ *       샤드 처리 함수가 {@link ItemFailedException} 으로 실제 실패 항목을 알려 주면 그 위치를, 아니면 샤드의 첫 항목 위치를 사용합니다.
+ *       그 앞의 레코드는 모두 처리가 끝났으므로 에러 핸들러는 연속으로 완료된 오프셋까지만 커밋하고,
+ *       나머지는 다시 전달됩니다. (이미 처리된 다른 키의 레코드도 다시 전달되므로 처리는 멱등이어야 함)</li>
+ * </ul>
+ *
+ * <p>메트릭: {@code kafka.key-ordered.queue.depth{listener, shard}} (샤드별 처리 대기 레코드 수),
+ * {@code kafka.key-ordered.lag{listener}} (레코드 생성부터 처리 완료까지 걸린 시간).
+ * 키 수는 제한이 없으므로 키 대신 샤드 단위로 기록합니다.</p>
+ */
+@Slf4j
+public class KeyOrderedBatchProcessor implements AutoCloseable {
+
+    /**
+     * 샤드로 나눌 항목. (키, 배치 안에서의 레코드 위치, 레코드 생성 시각)
+     */
+    public interface KeyedItem {
+        Object key();
+
+        int recordIndex();
+
+        long timestamp();
+    }
+
+    /**
+     * 샤드 처리 중 특정 항목이 실패했음을 알립니다.
+     * 샤드 첫 항목이 아닌 실제 실패 위치로 재전달/DLT 전송되도록 샤드 처리 함수에서 던집니다.
+     * (그 항목 앞의 같은 샤드 항목은 처리가 끝난 상태여야 함)
+     */
+    public static class ItemFailedException extends RuntimeException {
+
+        private final int recordIndex;
+
+        public ItemFailedException(KeyedItem item, Throwable cause) {
+            super(cause);
+            this.recordIndex = item.recordIndex();
+        }
+
+        public int getRecordIndex() {
+            return recordIndex;
+        }
+    }
+
+    private final String listener;
+    private final int workers;
+    private final ExecutorService executor;
+    private final AtomicInteger[] queueDepths;
+    private final Timer lagTimer;
+
+    public KeyOrderedBatchProcessor(String listener, int workers, MeterRegistry meterRegistry) {
+        this.listener = listener;
+        this.workers = Math.max(workers, 1);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.workers, runnable -> Thread.ofPlatform()
+                .name(listener + "-worker-" + threadNumber.incrementAndGet())
+                .daemon(true)
+                .unstarted(runnable));
+
+        this.queueDepths = new AtomicInteger[this.workers];
+        for (int shard = 0; shard < this.workers; shard++) {
+            queueDepths[shard] = new AtomicInteger();
+            Gauge.builder("kafka.key-ordered.queue.depth", queueDepths[shard], AtomicInteger::get)
+                    .tag("listener", listener)
+                    .tag("shard", String.valueOf(shard))
+                    .description("키 순서 병렬 처리 샤드별 대기 레코드 수")
+                    .register(meterRegistry);
+        }
+        this.lagTimer = Timer.builder("kafka.key-ordered.lag")
+                .tag("listener", listener)
+                .description("레코드 생성부터 처리 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 항목을 키별 샤드로 나눠 동시에 처리하고, 모든 샤드가 끝날 때까지 기다립니다.
+     *
+     * @param items        배치의 항목 (레코드 수신 순서)
+     * @param shardHandler 샤드 하나의 항목을 순서대로 처리
+     *                     ({@link ItemFailedException} 이면 해당 항목부터, 그 외 예외는 샤드 전체를 실패로 간주)
+     * @throws BatchListenerFailedException 실패한 샤드가 있는 경우 (가장 앞의 실패 레코드 위치)
+     */
+    public <T extends KeyedItem> void process(List<T> items, Consumer<List<T>> shardHandler) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        List<List<T>> shards = new ArrayList<>(workers);
+        for (int shard = 0; shard < workers; shard++) {
+            shards.add(new ArrayList<>());
+        }
+        for (T item : items) {
+            shards.get(Math.floorMod(item.key().hashCode(), workers)).add(item);
+        }
+
+        List<CompletableFuture<ShardFailure>> futures = new ArrayList<>(workers);
+        for (int shard = 0; shard < workers; shard++) {
+            List<T> shardItems = shards.get(shard);
+            if (shardItems.isEmpty()) {
+                continue;
+            }
+
+            AtomicInteger depth = queueDepths[shard];
+            depth.addAndGet(shardItems.size());
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    shardHandler.accept(shardItems);
+                    long now = System.currentTimeMillis();
+                    shardItems.forEach(item -> lagTimer.record(Duration.ofMillis(Math.max(now - item.timestamp(), 0))));
+                } finally {
+                    depth.addAndGet(-shardItems.size());
+                }
+            }, executor).handle((ignored, e) -> e == null ? null // 실패해도 다른 샤드는 계속 처리
+                    : shardFailure(shardItems, e.getCause() != null ? e.getCause() : e)));
+        }
+
+        // 가장 앞의 실패 위치 (그 앞의 레코드는 모두 처리 완료)
+        ShardFailure firstFailure = null;
+        for (CompletableFuture<ShardFailure> future : futures) {
+            ShardFailure failure = future.join();
+            if (failure != null && (firstFailure == null || failure.recordIndex() < firstFailure.recordIndex())) {
+                firstFailure = failure;
+            }
+        }
+
+        if (firstFailure != null) {
+            log.warn("[KAFKA][KEY-ORDERED] listener={} 샤드 처리 실패 recordIndex={} cause={}",
+                    listener, firstFailure.recordIndex(), firstFailure.cause().getMessage());
+            throw new BatchListenerFailedException("키 순서 병렬 처리 실패", firstFailure.cause(), firstFailure.recordIndex());
+        }
+    }
+
+    // 실제 실패 항목을 알려 주지 않으면 샤드 전체를 첫 항목부터 실패로 간주
+    private static ShardFailure shardFailure(List<? extends KeyedItem> shardItems, Throwable cause) {
+        if (cause instanceof ItemFailedException itemFailure) {
+            return new ShardFailure(itemFailure.getRecordIndex(),
+                    itemFailure.getCause() != null ? itemFailure.getCause() : itemFailure);
+        }
+        return new ShardFailure(shardItems.getFirst().recordIndex(), cause);
+    }
+
+    private record ShardFailure(int recordIndex, Throwable cause) {
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
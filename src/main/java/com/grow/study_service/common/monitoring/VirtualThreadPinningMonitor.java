@@ -0,0 +1,132 @@
+package com.grow.study_service.common.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 pinning 감지기 (가상 스레드 모드에서만 동작)
+ *
+ * <p>가상 스레드가 synchronized 블록 안에서 I/O 등으로 대기하면 캐리어 스레드를 반납하지 못하고 붙잡습니다. (pinning)
+ * JFR 의 {@code jdk.VirtualThreadPinned} 이벤트를 스트리밍으로 받아 발생 위치(애플리케이션 코드의 첫 프레임, 없으면 최상위 프레임)별로
+ * 횟수와 누적 시간을 모으고, 주기적으로 상위 hot spot 을 로그로 남깁니다.</p>
+ *
+ * <p>메트릭: {@code jvm.threads.virtual.pinned} (pinning 지속 시간, 위치 태그는 카디널리티 때문에 달지 않음)</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.grow.";
+    private static final int REPORT_SIZE = 10;
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private final Map<String, HotSpot> hotSpots = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-thread.pinning.threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드를 붙잡은 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+
+        log.info("[VIRTUAL THREAD][PINNING] pinning 감지 시작 threshold={}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    /**
+     * pinning 발생 위치를 누적 시간 순으로 반환합니다.
+     */
+    public List<HotSpotReport> report() {
+        return hotSpots.entrySet().stream()
+                .map(entry -> new HotSpotReport(entry.getKey(), entry.getValue().count.sum(),
+                        Duration.ofNanos(entry.getValue().totalNanos.sum()).toMillis()))
+                .sorted(Comparator.comparingLong(HotSpotReport::totalMillis).reversed())
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${virtual-thread.pinning.report-interval-ms:60000}")
+    public void logReport() {
+        List<HotSpotReport> report = report();
+        if (report.isEmpty()) {
+            return;
+        }
+
+        report.stream()
+                .limit(REPORT_SIZE)
+                .forEach(hotSpot -> log.warn("[VIRTUAL THREAD][PINNING] frame={} count={} total={}ms",
+                        hotSpot.frame(), hotSpot.count(), hotSpot.totalMillis()));
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedTimer.record(duration);
+
+        String frame = pinnedFrame(event.getStackTrace());
+        HotSpot hotSpot = hotSpots.computeIfAbsent(frame, key -> {
+            log.warn("[VIRTUAL THREAD][PINNING] 새 pinning 위치 frame={} duration={}ms", key, duration.toMillis());
+            return new HotSpot();
+        });
+        hotSpot.count.increment();
+        hotSpot.totalNanos.add(duration.toNanos());
+    }
+
+    // 애플리케이션 코드의 첫 프레임 (없으면 최상위 프레임)
+    private String pinnedFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame frame = frames.stream()
+                .filter(f -> f.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.getFirst());
+
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static class HotSpot {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+    }
+
+    public record HotSpotReport(String frame, long count, long totalMillis) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.grow.study_service.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 Kafka 로 발행되지 않은 이벤트 (transactional outbox)
+ * 비즈니스 데이터와 같은 트랜잭션에서 저장되고, {@link OutboxRelay} 가 발행 후 삭제합니다.
+ */
+@Entity
+@Getter
+@Table(name = "outbox_events")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 발행 순서
+
+    @Column(nullable = false)
+    private String topic;
+
+    private String messageKey; // 파티션 키 (null 이면 키 없이 발행)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // JSON 메시지
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static OutboxEventJpaEntity of(String topic, String messageKey, String payload) {
+        OutboxEventJpaEntity event = new OutboxEventJpaEntity();
+        event.topic = topic;
+        event.messageKey = messageKey;
+        event.payload = payload;
+        event.createdAt = LocalDateTime.now();
+        return event;
+    }
+}
@@ -0,0 +1,23 @@
+package com.grow.study_service.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * 발행할 이벤트를 오래된 순으로 가져오며 행 잠금을 겁니다.
+     * 다른 인스턴스의 릴레이가 잠근 행은 건너뛰므로 (SKIP LOCKED) 같은 이벤트를 동시에 발행하지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // -2: SKIP LOCKED
+    @Query("select e from OutboxEventJpaEntity e order by e.id asc")
+    List<OutboxEventJpaEntity> findBatchForRelay(Pageable pageable);
+}
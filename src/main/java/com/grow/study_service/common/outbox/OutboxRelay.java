@@ -0,0 +1,131 @@
+package com.grow.study_service.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 테이블의 이벤트를 주기적으로 Kafka 에 발행합니다.
+ *
+ * <ol>
+ *   <li>오래된 순으로 최대 batch-size 건을 잠금(SKIP LOCKED)과 함께 조회</li>
+ *   <li>전부 비동기로 send 한 뒤 한 번에 응답 대기 (프로듀서가 배치로 묶어 전송)</li>
+ *   <li>앞에서부터 연속으로 성공한 이벤트만 DELETE ... WHERE id IN (...) 한 번으로 삭제</li>
+ * </ol>
+ *
+ * <p>실패한 이벤트와 그 뒤의 이벤트는 남겨 두었다가 다음 주기에 순서대로 다시 발행합니다. (at-least-once)
+ * 재발행 시 중복이 생길 수 있으므로 소비자는 멱등하게 처리해야 합니다.</p>
+ *
+ * <p>메트릭: {@code outbox.relay.published} (발행 건수), {@code outbox.relay.failed} (발행 실패 건수),
+ * {@code outbox.relay.batch.size} (배치 크기), {@code outbox.relay.lag} (발행 대기 중인 가장 오래된 이벤트의 경과 시간, 초)</p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OutboxRelay(OutboxEventJpaRepository outboxEventJpaRepository,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeout = Duration.ofMillis(sendTimeoutMillis);
+
+        this.publishedCounter = Counter.builder("outbox.relay.published").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed").register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("outbox.relay.batch.size").register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagSeconds, AtomicLong::get)
+                .description("발행 대기 중인 가장 오래된 outbox 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        int relayed;
+        do { // 밀린 이벤트가 있으면 다음 주기를 기다리지 않고 이어서 발행
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed == batchSize);
+    }
+
+    // 한 배치 발행 후 삭제한 건수 반환 (잠금은 트랜잭션 커밋까지 유지)
+    private int relayBatch() {
+        List<OutboxEventJpaEntity> events = outboxEventJpaRepository.findBatchForRelay(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            lagSeconds.set(0);
+            return 0;
+        }
+
+        lagSeconds.set(Duration.between(events.getFirst().getCreatedAt(), LocalDateTime.now()).toSeconds());
+        batchSizeSummary.record(events.size());
+
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        for (OutboxEventJpaEntity event : events) {
+            futures.add(kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()));
+        }
+        kafkaTemplate.flush(); // linger 를 기다리지 않고 모인 배치 전송
+
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (!awaitSent(futures.get(i), events.get(i))) {
+                failedCounter.increment(events.size() - i);
+                break; // 실패 이후 이벤트는 순서 보장을 위해 다음 주기에 다시 발행
+            }
+            publishedIds.add(events.get(i).getId());
+        }
+
+        outboxEventJpaRepository.deleteAllByIdInBatch(publishedIds);
+        publishedCounter.increment(publishedIds.size());
+
+        log.debug("[OUTBOX][RELAY] 발행={} 대기={} lag={}s", publishedIds.size(), events.size() - publishedIds.size(), lagSeconds.get());
+        return publishedIds.size();
+    }
+
+    private boolean awaitSent(CompletableFuture<SendResult<String, String>> future, OutboxEventJpaEntity event) {
+        try {
+            future.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("[OUTBOX][RELAY] 이벤트 발행 실패 id={} topic={} cause={}", event.getId(), event.getTopic(), e.toString());
+            return false;
+        }
+    }
+}
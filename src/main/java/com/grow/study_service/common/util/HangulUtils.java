@@ -0,0 +1,99 @@
+package com.grow.study_service.common.util;
+
+import java.util.Map;
+
+/**
+ * 한글 자동 완성용 문자열 변환 유틸.
+ *
+ * <ul>
+ *   <li>초성 변환: "자바 스터디" → "ㅈㅂ ㅅㅌㄷ"</li>
+ *   <li>자모 분해: "자바" → "ㅈㅏㅂㅏ", 겹받침/이중모음도 입력 순서대로 나눔 ("닭" → "ㄷㅏㄹㄱ", "과" → "ㄱㅗㅏ")</li>
+ * </ul>
+ *
+ * <p>자모 분해는 입력 중인 글자("잡" = ㅈ,ㅏ,ㅂ 까지 입력한 "자바")도 접두사로 일치시키기 위한 것으로,
+ * 색인 값과 검색어 모두 같은 규칙으로 분해해야 합니다. 한글 음절이 아닌 문자는 그대로 둡니다.</p>
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00; // 가
+    private static final char SYLLABLE_END = 0xD7A3; // 힣
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final char COMPAT_CONSONANT_BEGIN = 0x3131; // ㄱ
+    private static final char COMPAT_CONSONANT_END = 0x314E; // ㅎ
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 검색어에 낱자로 들어온 겹자모도 같은 규칙으로 분해
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꿉니다. (그 외 문자는 그대로)
+     */
+    public static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            builder.append(isSyllable(c) ? CHOSUNG[(c - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)] : c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 한글 음절을 자모로 분해합니다. (그 외 문자는 그대로)
+     */
+    public static String toJamo(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (char c : text.toCharArray()) {
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(CHOSUNG[index / (JUNGSUNG_COUNT * JONGSUNG_COUNT)])
+                        .append(JUNGSUNG[(index % (JUNGSUNG_COUNT * JONGSUNG_COUNT)) / JONGSUNG_COUNT])
+                        .append(JONGSUNG[index % JONGSUNG_COUNT]);
+            } else {
+                builder.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 자음 낱자(ㄱ~ㅎ)인지 확인합니다. (초성 검색어 판별)
+     */
+    public static boolean isChosungOnly(String text) {
+        boolean hasConsonant = false;
+        for (char c : text.toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < COMPAT_CONSONANT_BEGIN || c > COMPAT_CONSONANT_END) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
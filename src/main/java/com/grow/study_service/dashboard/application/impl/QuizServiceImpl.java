@@ -2,7 +2,7 @@ package com.grow.study_service.dashboard.application.impl;
 
 import com.grow.study_service.dashboard.application.QuizService;
 import com.grow.study_service.dashboard.presentation.dto.QuizRankDto;
-import com.grow.study_service.group.application.api.MemberApiService;
+import com.grow.study_service.group.application.api.MemberNameResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -20,7 +20,7 @@ import java.util.stream.IntStream;
 public class QuizServiceImpl implements QuizService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final MemberApiService memberApiService;
+    private final MemberNameResolver memberNameResolver;
     public static final String DAILY_QUIZ_RANK_KEY = "dailyQuizRank:";
 
     /**
@@ -46,7 +46,7 @@ public class QuizServiceImpl implements QuizService {
                 .map(tuple -> Long.parseLong(tuple.getValue())) // memberId를 Long으로 변환
                 .toList();
 
-        List<String> nicknames = memberApiService.fetchMemberNames(memberIds); // API 호출 격리
+        List<String> nicknames = memberNameResolver.resolveNamesInOrder(memberIds); // near cache → Redis MGET → 벌크 API 순으로 일괄 조회
 
         // 스트림으로 QuizRankDto 리스트 생성 (순위 자동 부여)
         return IntStream.range(0, memberIds.size())
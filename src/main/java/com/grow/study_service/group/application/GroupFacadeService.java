@@ -1,15 +1,21 @@
 package com.grow.study_service.group.application;
 
 import com.grow.study_service.group.application.api.MemberApiService;
+import com.grow.study_service.group.application.api.MemberNameResolver;
+import com.grow.study_service.group.application.dto.GroupCursor;
 import com.grow.study_service.group.application.dto.GroupDetailPrep;
 import com.grow.study_service.group.application.dto.GroupWithLeader;
+import com.grow.study_service.group.application.dto.JoinRequestCursor;
+import com.grow.study_service.group.application.dto.PendingJoinRequest;
 import com.grow.study_service.group.application.join.GroupJoinService;
 import com.grow.study_service.group.domain.enums.Category;
+import com.grow.study_service.group.domain.enums.GroupSortType;
+import com.grow.study_service.group.presentation.dto.GroupCursorResponse;
 import com.grow.study_service.group.presentation.dto.GroupDetailResponse;
 import com.grow.study_service.group.presentation.dto.GroupResponse;
+import com.grow.study_service.group.presentation.dto.join.JoinRequestMembersResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,50 +40,86 @@ public class GroupFacadeService {
     private final GroupTransactionService groupTransactionService; // 트랜잭션 처리 담당
     private final MemberApiService memberApiService; // 외부 API 호출 담당
     private final GroupJoinService groupJoinService;
-    private final RedisTemplate<String, String> redisTemplate; // 캐시 관련 (멤버의 닉네임)
+    private final MemberNameResolver memberNameResolver; // 닉네임 2단계 캐시 조회 담당
 
-    public List<GroupResponse> getAllGroupsByCategory(Category category) {
-        // 트랜잭션 내에서 그룹 + 리더의 데이터를 가져온 후,
-        List<GroupWithLeader> groupsWithLeaders = groupTransactionService.prepareGroupsByCategory(category);
+    public static final int MAX_PAGE_SIZE = 50; // 한 페이지에 반환할 수 있는 최대 그룹 수
+
+    /**
+     * 카테고리별 그룹 목록을 커서 기반으로 한 페이지씩 조회합니다.
+     *
+     * @param category    조회할 그룹의 카테고리
+     * @param sortBy      정렬 기준 (startAt: 최신순, viewCount: 조회수순)
+     * @param cursorToken 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size        페이지 크기 (1 ~ {@link #MAX_PAGE_SIZE} 로 보정)
+     * @return 그룹 목록과 다음 페이지 커서
+     */
+    public GroupCursorResponse getAllGroupsByCategory(Category category, String sortBy, String cursorToken, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        GroupSortType sortType = GroupCursor.parseSortType(sortBy);
+        GroupCursor cursor = GroupCursor.decode(sortType, cursorToken);
+
+        // 트랜잭션 내에서 그룹 + 리더의 데이터를 가져온 후, (다음 페이지 확인용으로 1건 더 조회됨)
+        List<GroupWithLeader> fetched = groupTransactionService.prepareGroupsByCategory(category, cursor, pageSize);
+        boolean hasNext = fetched.size() > pageSize;
+        List<GroupWithLeader> groupsWithLeaders = hasNext ? fetched.subList(0, pageSize) : fetched;
 
         // 각 그룹의 리더 정보를 조회하고,
         List<Long> memberIds = groupsWithLeaders.stream()
-                .map(gwl -> gwl.getLeader().getMemberId())
+                .map(GroupWithLeader::getLeaderId)
                 .toList();
 
-        // 리더 닉네임 조회 및 캐싱 로직 (캐시 미스 시 API 호출 후 저장)
-        List<String> leaderNames = memberIds.stream()
-                .map(id -> {
-                    String key = id.toString();
-                    if (!redisTemplate.hasKey(key)) {
-                        // 캐시에 없으면 API 호출하여 가져오고 Redis에 저장
-                        String memberName = memberApiService.getMemberName(id);
-                        redisTemplate.opsForValue().set(key, memberName); // 캐시 저장 (id : 닉네임)
-                        return memberName;
-                    }
-                    // 캐시에서 직접 가져옴
-                    return redisTemplate.opsForValue().get(key);
-                })
-                .toList();
+        // 리더 닉네임 일괄 조회 (캐시 MGET 1회 + 캐시 미스 시 벌크 API 1회 후 저장)
+        List<String> leaderNames = memberNameResolver.resolveNamesInOrder(memberIds);
 
         // 그룹 정보와 리더 이름을 결합하여 GroupResponse 객체 생성
-        return groupTransactionService.buildGroupResponses(groupsWithLeaders, leaderNames, category);
+        List<GroupResponse> responses = groupTransactionService.buildGroupResponses(groupsWithLeaders, leaderNames, category);
+
+        String nextCursor = hasNext
+                ? GroupCursor.next(sortType, groupsWithLeaders.getLast()).encode()
+                : null;
+
+        return new GroupCursorResponse(responses, nextCursor, hasNext);
     }
 
     public GroupDetailResponse getGroupByCategory(Long groupId) {
         // 트랜잭션 내에서 그룹 데이터 가져온 후, API 호출으로 멤버 정보 보강
         GroupDetailPrep detailPrep = groupTransactionService.prepareGroupDetail(groupId);
-        // 멤버 이름 가져오기 (API 호출)
-        String memberName = memberApiService.getMemberName(detailPrep.getLeaderId());
+        // 리더 닉네임 가져오기 (near cache → Redis → 멤버 서비스 API 순으로 조회)
+        String memberName = memberNameResolver.resolveName(detailPrep.getLeaderId());
         // 그룹 상세 정보 생성 (DTO 생성)
         return groupTransactionService.buildGroupDetailResponse(detailPrep, memberName, groupId);
     }
 
-    // 가입 요청 조회 + 멤버 정보 api 조회
-    public List<MemberInfo> getJoinMemberInfo(Long groupId) {
-        List<Long> allMemberIds = groupJoinService.prepareFindJoinRequest(groupId);
+    /**
+     * 그룹의 가입 요청을 오래된 순으로 한 페이지 조회하고, 해당 페이지 멤버의 정보만 멤버 서비스에서 조회합니다.
+     *
+     * @param groupId     조회할 그룹 ID
+     * @param cursorToken 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size        페이지 크기 (1 ~ {@link #MAX_PAGE_SIZE} 로 보정)
+     * @return 가입 요청 멤버 정보와 다음 페이지 커서
+     */
+    public JoinRequestMembersResponse getJoinMemberInfo(Long groupId, String cursorToken, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        JoinRequestCursor cursor = JoinRequestCursor.decode(cursorToken);
+
+        // 다음 페이지 확인용으로 1건 더 조회
+        List<PendingJoinRequest> fetched = groupJoinService.prepareFindJoinRequest(groupId, cursor, pageSize + 1);
+        boolean hasNext = fetched.size() > pageSize;
+        List<PendingJoinRequest> requests = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        List<Long> allMemberIds = requests.stream()
+                .map(PendingJoinRequest::getMemberId)
+                .toList();
+
+        // 동기적으로 결과 받기 → 조회 기한(member.info.fan-out.deadline-ms)이 지나면 미조회 멤버는 degraded 로 채워져 반환됨
+        List<MemberInfo> memberInfos = memberApiService.getNicknameAndScore(allMemberIds).block();
+
+        // 함께 받아 온 닉네임을 닉네임 캐시(near cache + Redis)에 저장 → 이후 그룹 상세, 목록, 퀴즈 랭킹 화면에서 재사용
+        memberNameResolver.cacheNames(memberInfos.stream()
+                .filter(info -> info.getNickname() != null)
+                .collect(Collectors.toMap(MemberInfo::getMemberId, MemberInfo::getNickname, (first, second) -> first)));
 
-        // 동기적으로 결과 받기 → 결과를 바로 이용해야 함
-        return memberApiService.getNicknameAndScore(allMemberIds).block();
+        String nextCursor = hasNext ? JoinRequestCursor.next(requests.getLast()).encode() : null;
+        return JoinRequestMembersResponse.of(memberInfos, nextCursor, hasNext);
     }
 }
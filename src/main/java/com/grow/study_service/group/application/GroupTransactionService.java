@@ -1,5 +1,6 @@
 package com.grow.study_service.group.application;
 
+import com.grow.study_service.group.application.dto.GroupCursor;
 import com.grow.study_service.group.application.dto.GroupDetailPrep;
 import com.grow.study_service.group.application.dto.GroupWithLeader;
 import com.grow.study_service.group.domain.enums.Category;
@@ -10,7 +11,7 @@ import com.grow.study_service.group.presentation.dto.GroupSimpleResponse;
 import java.util.List;
 
 public interface GroupTransactionService {
-    List<GroupWithLeader> prepareGroupsByCategory(Category category);
+    List<GroupWithLeader> prepareGroupsByCategory(Category category, GroupCursor cursor, int size);
 
     List<GroupResponse> buildGroupResponses(List<GroupWithLeader> groupsWithLeaders, List<String> memberNames, Category category);
 
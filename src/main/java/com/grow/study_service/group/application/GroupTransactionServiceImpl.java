@@ -2,8 +2,10 @@ package com.grow.study_service.group.application;
 
 import com.grow.study_service.common.exception.ErrorCode;
 import com.grow.study_service.common.exception.service.ServiceException;
+import com.grow.study_service.group.application.dto.GroupCursor;
 import com.grow.study_service.group.application.dto.GroupDetailPrep;
 import com.grow.study_service.group.application.dto.GroupWithLeader;
+import com.grow.study_service.group.application.view.GroupViewCountBuffer;
 import com.grow.study_service.group.domain.enums.Category;
 import com.grow.study_service.group.domain.model.Group;
 import com.grow.study_service.group.domain.repository.GroupRepository;
@@ -29,41 +31,30 @@ public class GroupTransactionServiceImpl implements GroupTransactionService {
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final GroupQueryRepository groupQueryRepository;
+    private final GroupViewCountBuffer groupViewCountBuffer;
 
     /**
      * 주어진 카테고리에 해당하는 모든 그룹과 각각의 그룹 리더 정보를 조회하여
      * GroupWithLeader 객체 리스트로 반환합니다.
      *
      * 이 메서드는 트랜잭션(readOnly) 범위 내에서 동작하며,
-     * 1) 지정된 카테고리의 그룹 리스트를 데이터베이스에서 가져오고,
-     * 2) 각 그룹별 리더 멤버 정보를 조회하여 이를 함께 묶어 반환하는 역할을 합니다.
+     * 그룹과 리더(LEADER) 멤버를 한 번의 조인 쿼리로 조회합니다.
+     * (이전에는 그룹마다 리더를 따로 조회하여 그룹 수 + 1 번의 쿼리가 발생했습니다.)
+     *
+     * 다음 페이지 존재 여부를 판단할 수 있도록 요청한 크기보다 1건 더 조회합니다.
      *
      * @param category 조회할 그룹의 카테고리
-     * @return 지정된 카테고리의 그룹과 그룹 리더 정보를 포함하는 리스트
+     * @param cursor   조회 시작 위치와 정렬 기준
+     * @param size     페이지 크기
+     * @return 지정된 카테고리의 그룹과 그룹 리더 정보를 포함하는 리스트 (최대 size + 1 건)
      */
     @Override
     @Transactional(readOnly = true)
-    public List<GroupWithLeader> prepareGroupsByCategory(Category category) {
-        log.info("[GROUP][SEARCH][START] 전체 {} 그룹 조회 시작", category.getDescription());
-
-        List<Group> groupList = getAllByCategory(category);
+    public List<GroupWithLeader> prepareGroupsByCategory(Category category, GroupCursor cursor, int size) {
+        log.info("[GROUP][SEARCH][START] 전체 {} 그룹 조회 시작 정렬={} 크기={}",
+                category.getDescription(), cursor.getSortType().getDescription(), size);
 
-        List<GroupWithLeader> groupsWithLeaders = new ArrayList<>();
-        for (Group group : groupList) {
-            GroupMember groupLeader = getGroupLeader(group);
-            groupsWithLeaders.add(new GroupWithLeader(group, groupLeader));
-        }
-
-        return groupsWithLeaders;
-    }
-
-    private List<Group> getAllByCategory(Category category) {
-        return groupRepository.findAllByCategory(category);
-    }
-
-    private GroupMember getGroupLeader(Group group) {
-        return groupMemberRepository.findByGroupIdAndLeader(group.getGroupId())
-                .orElseThrow(() -> new ServiceException(ErrorCode.GROUP_OR_LEADER_NOT_FOUND));
+        return groupQueryRepository.findGroupsWithLeaderByCategory(category, cursor, size + 1);
     }
 
     /**
@@ -82,10 +73,10 @@ public class GroupTransactionServiceImpl implements GroupTransactionService {
                                                    List<String> memberNames, Category category) {
         ArrayList<GroupResponse> responses = new ArrayList<>();
         for (int i = 0; i < groupsWithLeaders.size(); i++) {
-            Group group = groupsWithLeaders.get(i).getGroup();
+            GroupWithLeader groupWithLeader = groupsWithLeaders.get(i);
             String memberName = memberNames.get(i);
 
-            GroupResponse response = GroupResponse.of(group, memberName);
+            GroupResponse response = GroupResponse.of(groupWithLeader, memberName);
             responses.add(response);
         }
 
@@ -96,22 +87,26 @@ public class GroupTransactionServiceImpl implements GroupTransactionService {
     /**
      * 특정 그룹의 상세 정보를 준비합니다.
      *
-     * 1) 그룹 조회 및 조회수 증가를 수행하고,
+     * 1) 그룹을 조회하고 조회수 버퍼에 조회 1회를 기록한 뒤,
      * 2) 해당 그룹의 멤버 수를 조회하며,
      * 3) 그룹 리더의 멤버 ID를 확인합니다.
      *
-     * 모든 작업은 트랜잭션 내에서 수행되어 데이터 일관성을 보장합니다.
+     * 조회수는 메모리 버퍼에 모았다가 주기적으로 DB에 합산하므로 (write-behind)
+     * 이 메서드는 읽기 전용 트랜잭션으로 동작하며, 응답의 조회수는 최대 반영 주기만큼 늦게 보일 수 있습니다.
      *
      * @param groupId 상세 조회할 그룹의 ID
      * @return 조회된 그룹 정보, 멤버 수, 리더 ID를 포함한 GroupDetailPrep 객체
      * @throws ServiceException 그룹을 찾지 못하거나 리더 정보가 없는 경우 발생
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public GroupDetailPrep prepareGroupDetail(Long groupId) {
         log.info("[GROUP][DETAIL][START] 그룹 상세 조회 시작 groupId={}", groupId);
 
-        Group group = findAndIncrementViewCount(groupId);
+        Group group = groupRepository.findById(groupId)
+                .orElseThrow(() -> new ServiceException(ErrorCode.GROUP_NOT_FOUND));
+        groupViewCountBuffer.increment(groupId);
+
         int memberCount = getMemberCount(groupId);
 
         Long leaderId = groupMemberRepository.findByGroupIdAndLeader(group.getGroupId())
@@ -121,14 +116,6 @@ public class GroupTransactionServiceImpl implements GroupTransactionService {
         return new GroupDetailPrep(group, memberCount, leaderId);
     }
 
-    private Group findAndIncrementViewCount(Long groupId) {
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.GROUP_NOT_FOUND));
-
-        Group updatedGroup = group.incrementViewCount();
-        return groupRepository.save(updatedGroup);
-    }
-
     private int getMemberCount(Long groupId) {
         return groupMemberRepository.findMemberCountByGroupId(groupId);
     }
@@ -0,0 +1,161 @@
+package com.grow.study_service.group.application.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 멤버 서비스 호출에 엔드포인트별 지연 예산(latency budget)과 헤지 요청(hedged request)을 적용합니다.
+ *
+ * <ol>
+ *   <li>1차 요청을 보내고, 최근 p95 응답 시간(헤지 지연) 안에 응답이 없으면 같은 요청을 한 번 더 보냅니다.
+ *       1차 요청이 이미 끝났다면(성공/실패 모두) 헤지 요청은 보내지 않습니다.</li>
+ *   <li>두 요청 중 먼저 값을 낸 쪽을 사용하고 나머지는 취소합니다.</li>
+ *   <li>1차 요청의 실패는 그대로 호출자에게 전달하고, 헤지 요청의 실패는 무시한 채 1차 요청 결과를 기다립니다.</li>
+ *   <li>전체 호출은 엔드포인트별 예산을 넘기면 {@link java.util.concurrent.TimeoutException} 으로 실패합니다.</li>
+ * </ol>
+ *
+ * <p>느린 파드 하나에 걸린 요청의 꼬리 지연을 다른 파드의 응답으로 잘라내기 위한 것이므로,
+ * 조회(멱등) 요청에만 사용합니다. 헤지 요청은 최대 1건이라 추가 부하는 약 5% 수준입니다.</p>
+ *
+ * <p>헤지 지연은 1차 요청의 응답 시간 분포로 정합니다. 헤지가 이겨 취소된 1차 요청도 취소 시점까지의 시간을
+ * 하한값으로 넣으므로, 느린 꼬리가 분포에서 빠져 p95 가 내려가고 헤지가 점점 자주 나가는 일이 없습니다.</p>
+ *
+ * <p>메트릭: {@code member.api.latency{endpoint}} (1차 요청 응답 시간, 취소된 경우 취소 시점까지 - p95 가 헤지 지연 기준),
+ * {@code member.api.latency.hedge{endpoint}} (완료/실패한 헤지 요청 응답 시간),
+ * {@code member.api.hedge{endpoint, result=fired|won}} (헤지 발생/승리 횟수)</p>
+ */
+@Slf4j
+@Component
+public class HedgedRequestExecutor {
+
+    private static final double HEDGE_PERCENTILE = 0.95;
+    private static final long MIN_SAMPLES_FOR_PERCENTILE = 20; // 표본이 적을 때는 p95 대신 기본 헤지 지연 사용
+
+    private final MeterRegistry meterRegistry;
+    private final Duration defaultHedgeDelay;
+    private final Duration minHedgeDelay;
+    private final Map<String, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    public HedgedRequestExecutor(MeterRegistry meterRegistry,
+                                 @Value("${member.api.hedge.default-delay-ms:200}") long defaultHedgeDelayMillis,
+                                 @Value("${member.api.hedge.min-delay-ms:20}") long minHedgeDelayMillis) {
+        this.meterRegistry = meterRegistry;
+        this.defaultHedgeDelay = Duration.ofMillis(defaultHedgeDelayMillis);
+        this.minHedgeDelay = Duration.ofMillis(minHedgeDelayMillis);
+    }
+
+    /**
+     * 헤지 요청과 지연 예산을 적용해 호출합니다.
+     *
+     * @param endpoint 메트릭/헤지 기준을 구분할 엔드포인트 이름
+     * @param budget   전체 호출 지연 예산 (헤지 요청 포함)
+     * @param call     호출마다 새 요청을 만드는 함수 (헤지 시 한 번 더 호출됨)
+     */
+    public <T> Mono<T> execute(String endpoint, Duration budget, Supplier<Mono<T>> call) {
+        EndpointMeters endpointMeters = meters.computeIfAbsent(endpoint, this::registerMeters);
+
+        return Mono.defer(() -> {
+            Duration hedgeDelay = hedgeDelay(endpointMeters.latency, budget);
+
+            Mono<T> primary = timed(call, endpointMeters.latency, endpointMeters.latency); // 취소돼도 하한값으로 기록
+            Mono<T> hedge = Mono.delay(hedgeDelay)
+                    .then(Mono.defer(() -> {
+                        endpointMeters.hedgeFired.increment();
+                        log.debug("[MEMBER][API][HEDGE] 헤지 요청 전송 endpoint={} delay={}ms", endpoint, hedgeDelay.toMillis());
+                        return timed(call, endpointMeters.hedgeLatency, null); // 1차 요청이 이겨 취소된 헤지는 기록하지 않음
+                    }))
+                    .doOnNext(result -> endpointMeters.hedgeWon.increment())
+                    .onErrorResume(e -> {
+                        // 헤지 실패는 버리고 1차 요청 결과를 기다림
+                        log.debug("[MEMBER][API][HEDGE] 헤지 요청 실패 endpoint={} cause={}", endpoint, e.getMessage());
+                        return Mono.empty();
+                    });
+
+            // merge: 1차 요청이 실패하면 즉시 그 에러로 종료하며 대기 중인 헤지(delay)도 취소
+            // next: 먼저 값을 낸 쪽 사용, 나머지는 취소
+            return Flux.merge(primary, hedge)
+                    .next()
+                    .timeout(budget);
+        });
+    }
+
+    // 현재 p95 를 헤지 지연으로 사용 (최소값 ~ 예산 사이로 보정)
+    private Duration hedgeDelay(Timer latency, Duration budget) {
+        Duration delay = defaultHedgeDelay;
+
+        if (latency.count() >= MIN_SAMPLES_FOR_PERCENTILE) {
+            for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+                if (percentile.percentile() == HEDGE_PERCENTILE) {
+                    delay = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+                }
+            }
+        }
+
+        if (delay.compareTo(minHedgeDelay) < 0) {
+            return minHedgeDelay;
+        }
+        return delay.compareTo(budget) > 0 ? budget : delay;
+    }
+
+    // 시도 단위로 응답 시간을 기록 (cancelledTimer 가 null 이면 취소된 시도는 기록하지 않음)
+    private <T> Mono<T> timed(Supplier<Mono<T>> call, Timer completedTimer, Timer cancelledTimer) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return call.get()
+                    .doOnSuccess(result -> record(recorded, completedTimer, start))
+                    .doOnError(e -> record(recorded, completedTimer, start))
+                    .doOnCancel(() -> {
+                        if (cancelledTimer != null) {
+                            record(recorded, cancelledTimer, start);
+                        }
+                    });
+        });
+    }
+
+    // 값 전달 직후의 취소 신호로 두 번 기록되지 않도록 시도당 한 번만 기록
+    private void record(AtomicBoolean recorded, Timer timer, long start) {
+        if (recorded.compareAndSet(false, true)) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private EndpointMeters registerMeters(String endpoint) {
+        Timer latency = Timer.builder("member.api.latency")
+                .tag("endpoint", endpoint)
+                .description("멤버 서비스 1차 요청 응답 시간 (취소된 경우 취소 시점까지)")
+                .publishPercentiles(HEDGE_PERCENTILE)
+                .register(meterRegistry);
+        Timer hedgeLatency = Timer.builder("member.api.latency.hedge")
+                .tag("endpoint", endpoint)
+                .description("멤버 서비스 헤지 요청 응답 시간")
+                .register(meterRegistry);
+        Counter fired = Counter.builder("member.api.hedge")
+                .tag("endpoint", endpoint)
+                .tag("result", "fired")
+                .register(meterRegistry);
+        Counter won = Counter.builder("member.api.hedge")
+                .tag("endpoint", endpoint)
+                .tag("result", "won")
+                .register(meterRegistry);
+
+        return new EndpointMeters(latency, hedgeLatency, fired, won);
+    }
+
+    private record EndpointMeters(Timer latency, Timer hedgeLatency, Counter hedgeFired, Counter hedgeWon) {
+    }
+}
@@ -14,12 +14,12 @@ public interface MemberApiService {
     String getMemberName(Long memberId);
 
     /**
-     * 외부 API 호출로 멤버 이름 조회 (리스트 처리)
+     * 벌크 API 한 번으로 여러 멤버의 이름 조회 (멤버 ID → 이름)
      */
-    List<String> fetchMemberNames(List<Long> memberIds);
+    Map<Long, String> getMemberNames(List<Long> memberIds);
 
     /**
-     * 가입 요청 정보 확인
+     * 가입 요청 정보 확인 (입력 순서 유지, 기한 내 조회하지 못한 멤버는 degraded 항목으로 반환)
      */
     Mono<List<MemberInfo>> getNicknameAndScore(List<Long> memberIds);
 }
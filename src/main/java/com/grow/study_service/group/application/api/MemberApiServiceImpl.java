@@ -2,6 +2,7 @@ package com.grow.study_service.group.application.api;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,10 +10,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -25,7 +27,26 @@ public class MemberApiServiceImpl implements MemberApiService {
     @Value("${member.info.path}")
     private String memberInfoPath;
 
+    @Value("${member.names.path}")
+    private String memberNamesPath;
+
+    @Value("${member.info.fan-out.concurrency:32}") // 가입 요청 멤버 정보 동시 요청 수
+    private int fanOutConcurrency;
+
+    @Value("${member.info.fan-out.deadline-ms:3000}") // 가입 요청 멤버 정보 전체 조회 기한
+    private long fanOutDeadlineMillis;
+
+    @Value("${member.api.budget.name-ms:1000}") // 닉네임 단건 조회 지연 예산
+    private long nameBudgetMillis;
+
+    @Value("${member.api.budget.names-ms:2000}") // 닉네임 벌크 조회 지연 예산
+    private long namesBudgetMillis;
+
+    @Value("${member.api.budget.info-ms:1000}") // 닉네임 + 점수 조회 지연 예산
+    private long infoBudgetMillis;
+
     private final WebClient webClient;
+    private final HedgedRequestExecutor hedgedRequestExecutor; // 지연 예산 + 헤지 요청 적용
 
     /**
      * 멤버 서비스에서 주어진 멤버 ID에 해당하는 멤버의 이름을 조회합니다.
@@ -51,6 +72,7 @@ public class MemberApiServiceImpl implements MemberApiService {
      *
      * <p><strong>성능 고려사항:</strong></p>
      * <ul>
+     *   <li>member.api.budget.name-ms 지연 예산 적용, p95 안에 응답이 없으면 헤지 요청 1건 추가 ({@link HedgedRequestExecutor})</li>
      *   <li>block() 메서드 사용으로 인한 동기 처리로 스레드 블로킹 발생</li>
      *   <li>네트워크 지연시간에 따른 응답 시간 변동 가능</li>
      *   <li>멤버 서비스 가용성에 직접적으로 의존</li>
@@ -64,39 +86,55 @@ public class MemberApiServiceImpl implements MemberApiService {
      */
     @Override
     public String getMemberName(Long memberId) {
-        return webClient.get()
-                .uri(memberNamePath, memberId) // 멤버 이름을 가져올 API 경로
-                .retrieve()
-                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-                        response -> Mono.error(new RuntimeException("API 호출 실패: " + response.statusCode())))
-                .bodyToMono(String.class)
+        return hedgedRequestExecutor.execute("name", Duration.ofMillis(nameBudgetMillis), () -> webClient.get()
+                        .uri(memberNamePath, memberId) // 멤버 이름을 가져올 API 경로
+                        .retrieve()
+                        .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                                response -> Mono.error(new RuntimeException("API 호출 실패: " + response.statusCode())))
+                        .bodyToMono(String.class))
                 .block();
     }
 
     /**
-     * 주어진 멤버 ID 리스트에 해당하는 멤버 이름들을 조회합니다.
+     * 주어진 멤버 ID 리스트에 해당하는 멤버 이름들을 벌크 API 한 번으로 조회합니다.
      *
-     * 이 메서드는 각 멤버 ID에 대해 {@link #getMemberName(Long)} 메서드를 호출하여
-     * 이름을 가져온 후, 리스트 형태로 반환합니다. MSA 환경에서 WebClient를 통해
-     * 멤버 서비스에 동기 HTTP 요청을 보내 실시간으로 데이터를 조회합니다.
+     * 멤버마다 {@link #getMemberName(Long)} 를 순차 호출하면 ID 수만큼 HTTP 왕복이 발생하므로,
+     * ID 목록을 요청 본문(JSON 배열)에 담아 POST 요청 한 번으로 조회합니다.
+     * 응답은 {@code [{"memberId": 1, "nickname": "..."}]} 형태의 배열이며, 존재하지 않는 멤버는 응답에서 빠집니다.
      *
-     * @param memberIds 조회할 멤버 ID들의 리스트 (null 또는 빈 리스트일 경우 빈 리스트 반환)
-     * @return 각 멤버 ID에 해당하는 이름들의 리스트 (순서 유지)
+     * @param memberIds 조회할 멤버 ID들의 리스트 (빈 리스트일 경우 빈 맵 반환)
+     * @return 멤버 ID → 멤버 이름 맵
+     * @throws RuntimeException 멤버 서비스 호출 실패 시 발생 (4xx, 5xx 응답 코드 포함)
      */
     @Override
-    public List<String> fetchMemberNames(List<Long> memberIds) {
-        return memberIds.stream()
-                .map(this::getMemberName)
-                .collect(Collectors.toList());
+    public Map<Long, String> getMemberNames(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return hedgedRequestExecutor.execute("names", Duration.ofMillis(namesBudgetMillis), () -> webClient.post()
+                        .uri(memberNamesPath)
+                        .bodyValue(memberIds)
+                        .retrieve()
+                        .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                                response -> Mono.error(new RuntimeException("API 호출 실패: " + response.statusCode())))
+                        .bodyToFlux(MemberNameInfo.class)
+                        .filter(info -> info.getMemberId() != null && info.getNickname() != null)
+                        .collectMap(MemberNameInfo::getMemberId, MemberNameInfo::getNickname))
+                .block();
     }
 
     /**
-     * 주어진 memberId 리스트를 기반으로 외부 서버에서 닉네임과 점수를 비동기 병렬 요청으로 조회합니다.
-     * WebClient를 활용해 여러 요청을 동시에 처리하여 성능을 최적화합니다.
-     * 에러 발생 시 로그를 남기고 빈 MemberInfo를 반환하며, 전체 결과를 Mono<List<MemberInfo>>로 제공합니다.
+     * 주어진 memberId 리스트의 닉네임과 점수를 멤버 서비스에서 병렬로 조회합니다.
+     *
+     * <p>WebClient 호출은 논블로킹이므로 별도 스케줄러 없이 {@code flatMapSequential} 로
+     * 최대 {@code member.info.fan-out.concurrency} 건까지 동시에 요청하고, 결과는 입력 순서대로 모읍니다.
+     * 전체 조회에는 {@code member.info.fan-out.deadline-ms} 기한이 있으며, 기한 안에 응답받지 못했거나
+     * 호출에 실패한 멤버는 누락시키지 않고 {@link MemberInfo#unresolved(Long)} (degraded = true) 로 채웁니다.
+     * 따라서 결과 리스트는 항상 memberIds 와 같은 크기·순서이며, 기한을 넘겨 스레드를 붙잡지 않습니다.</p>
      *
      * @param memberIds 조회할 회원 ID 리스트 (필수, 빈 리스트 시 빈 결과 반환)
-     * @return Mono<List<MemberInfo>> - 닉네임과 점수 리스트 (비동기 처리 결과)
+     * @return Mono<List<MemberInfo>> - memberIds 순서의 닉네임과 점수 리스트
      */
     @Override
     public Mono<List<MemberInfo>> getNicknameAndScore(List<Long> memberIds) {
@@ -104,28 +142,64 @@ public class MemberApiServiceImpl implements MemberApiService {
             return Mono.just(List.of()); // 입력 리스트가 비어 있으면, 불필요한 작업을 피하고 바로 빈 리스트를 Mono로 감싸 반환
         }
 
-        // 전체 흐름: ID 리스트를 Flux로 변환 → 병렬로 API 호출 → 결과 모아서 리스트 반환
-        return Flux.fromIterable(memberIds) // 리스트(memberIds)를 Flux(스트림)로 변환 Flux: "여러" 아이템을 순차적으로 처리
-                .parallel() // Flux를 병렬 모드로 전환 → 여러 스레드에서 동시에 작업을 나눠 처리
-                .runOn(Schedulers.parallel()) // 병렬 처리를 위한 스케줄러를 지정 Schedulers.parallel(): CPU 코어 수에 맞는 스레드 풀을 사용해 병렬 작업을 실행
-                .flatMap(memberId -> webClient.get() // 입력을 받아 새로운 Mono/Flux를 반환하고, 이를 평평하게(flatten) 합침
-                        .uri(memberInfoPath, memberId)
-                        .retrieve() // API 응답을 처리하기 시작
-                        .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-                                response -> Mono.error(new RuntimeException("API 호출 실패: " + response.statusCode())))
-                        .bodyToMono(MemberInfo.class) // 응답 본문을 MemberInfo 객체로 변환
-                        .onErrorResume(e -> { // 에러가 발생해도 스트림이 중단되지 않도록 처리
-                            log.error("[Member Info API error] API 호출 실패: {}", e.getMessage());
-                            return Mono.empty(); // 에러 발생 시 빈 MemberInfo 반환
-                        }))
-                .sequential() // 병렬 처리 결과를 순차 Flux 로 합침 (병렬 처리 후 결과를 순서대로 모으는 데 필요)
-                .collectList(); // 결과를 리스트로 반환
+        return Mono.defer(() -> {
+            long deadlineNanos = System.nanoTime() + Duration.ofMillis(fanOutDeadlineMillis).toNanos(); // 구독 시점부터 전체 기한 계산
+
+            return Flux.fromIterable(memberIds)
+                    .flatMapSequential(memberId -> fetchMemberInfoUntil(memberId, deadlineNanos), fanOutConcurrency)
+                    .collectList();
+        });
+    }
+
+    // 남은 기한 안에서 멤버 한 명의 정보를 조회 (동시 요청 제한으로 늦게 구독된 요청은 남은 시간만 사용)
+    private Mono<MemberInfo> fetchMemberInfoUntil(Long memberId, long deadlineNanos) {
+        return Mono.defer(() -> {
+                    long remainingNanos = deadlineNanos - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        return Mono.error(new TimeoutException("가입 요청 멤버 정보 조회 기한 초과"));
+                    }
+
+                    // 호출 예산은 엔드포인트 예산과 남은 전체 기한 중 짧은 쪽
+                    Duration budget = Duration.ofNanos(Math.min(remainingNanos, Duration.ofMillis(infoBudgetMillis).toNanos()));
+
+                    return hedgedRequestExecutor.execute("info", budget, () -> webClient.get()
+                                    .uri(memberInfoPath, memberId)
+                                    .retrieve() // API 응답을 처리하기 시작
+                                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                                            response -> Mono.error(new RuntimeException("API 호출 실패: " + response.statusCode())))
+                                    .bodyToMono(MemberInfo.class)) // 응답 본문을 MemberInfo 객체로 변환
+                            .map(info -> MemberInfo.resolved(memberId, info.getNickname(), info.getScore()));
+                })
+                .defaultIfEmpty(MemberInfo.unresolved(memberId))
+                .onErrorResume(e -> { // 실패해도 스트림이 중단되지 않도록 degraded 항목으로 대체
+                    log.warn("[Member Info API error] memberId={} 조회 실패: {}", memberId, e.toString());
+                    return Mono.just(MemberInfo.unresolved(memberId));
+                });
+    }
+
+    @Getter
+    @NoArgsConstructor // JSON 역직렬화
+    @AllArgsConstructor
+    public static class MemberNameInfo {
+        private Long memberId;
+        private String nickname;
     }
 
     @Getter
+    @NoArgsConstructor // JSON 역직렬화
     @AllArgsConstructor
     public static class MemberInfo {
+        private Long memberId; // 요청한 멤버 ID (응답에 없으므로 요청 값으로 채움)
         private String nickname;
         private double score;
+        private boolean degraded; // 기한 초과/호출 실패로 닉네임과 점수를 채우지 못한 경우 true
+
+        public static MemberInfo resolved(Long memberId, String nickname, double score) {
+            return new MemberInfo(memberId, nickname, score, false);
+        }
+
+        public static MemberInfo unresolved(Long memberId) {
+            return new MemberInfo(memberId, null, 0, true);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,218 @@
+package com.grow.study_service.group.application.api;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 멤버 닉네임을 조회하는 2단계 캐시 리졸버. (그룹 상세, 그룹 목록, 가입 요청, 퀴즈 랭킹에서 공통 사용)
+ *
+ * <ol>
+ *   <li>near cache: 인스턴스 메모리의 Caffeine 캐시 (최대 크기 + TTL 로 제한) → 네트워크 왕복 없음</li>
+ *   <li>Redis: MGET 한 번으로 near cache 미스 ID 전체를 조회</li>
+ *   <li>멤버 서비스: Redis 미스 ID 전체를 벌크 API 한 번으로 조회 후, 파이프라인 SET EX 로 Redis 에 저장</li>
+ * </ol>
+ *
+ * <p>near cache 는 로딩 중인 ID 를 미완료 future 로 먼저 등록하므로,
+ * 같은 ID 에 대한 동시 미스는 하나의 로딩 결과를 함께 기다립니다. (single-flight)
+ * 닉네임 변경은 다른 인스턴스의 near cache 에 전파되지 않으므로 near cache TTL 은 짧게 유지합니다.</p>
+ *
+ * <p>메트릭: {@code cache.*{cache=member.nickname.near}} (near cache 히트/미스/로딩 시간),
+ * {@code member.nickname.redis{result=hit|miss}}, {@code member.nickname.load} (멤버 서비스 조회 시간)</p>
+ */
+@Slf4j
+@Component
+public class MemberNameResolver {
+
+    public static final String UNKNOWN_NICKNAME = "알 수 없는 사용자"; // 멤버 서비스에서 찾지 못했거나 조회에 실패한 경우 (캐시하지 않음)
+
+    private static final String CACHE_KEY_PREFIX = "member:nickname:";
+    private static final String NEAR_CACHE_NAME = "member.nickname.near";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MemberApiService memberApiService;
+    private final Expiration redisExpiration;
+    private final AsyncCache<Long, String> nearCache;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Timer memberServiceLoadTimer;
+
+    public MemberNameResolver(RedisTemplate<String, String> redisTemplate,
+                              MemberApiService memberApiService,
+                              MeterRegistry meterRegistry,
+                              @Value("${member.name.cache-ttl-seconds:86400}") long redisTtlSeconds, // 기본 1일
+                              @Value("${member.name.near-cache.max-size:10000}") long nearCacheMaxSize,
+                              @Value("${member.name.near-cache.ttl-seconds:60}") long nearCacheTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.memberApiService = memberApiService;
+        this.redisExpiration = Expiration.from(Duration.ofSeconds(redisTtlSeconds));
+
+        this.nearCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(nearCacheTtlSeconds))
+                .recordStats()
+                .<Long, String>buildAsync(), NEAR_CACHE_NAME);
+
+        this.redisHitCounter = Counter.builder("member.nickname.redis")
+                .tag("result", "hit")
+                .description("near cache 미스 후 Redis 에서 찾은 닉네임 수")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("member.nickname.redis")
+                .tag("result", "miss")
+                .description("Redis 에도 없어 멤버 서비스에서 조회한 닉네임 수")
+                .register(meterRegistry);
+        this.memberServiceLoadTimer = Timer.builder("member.nickname.load")
+                .description("멤버 서비스 닉네임 조회 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 멤버 한 명의 닉네임을 조회합니다.
+     *
+     * @param memberId 조회할 멤버 ID
+     * @return 닉네임 (찾지 못하면 {@link #UNKNOWN_NICKNAME})
+     */
+    public String resolveName(Long memberId) {
+        return resolveNames(List.of(memberId)).getOrDefault(memberId, UNKNOWN_NICKNAME);
+    }
+
+    /**
+     * 주어진 멤버 ID 순서 그대로 닉네임 리스트를 반환합니다. (중복 ID 허용)
+     *
+     * @param memberIds 조회할 멤버 ID 리스트
+     * @return memberIds 와 같은 순서의 닉네임 리스트
+     */
+    public List<String> resolveNamesInOrder(List<Long> memberIds) {
+        Map<Long, String> names = resolveNames(memberIds);
+
+        return memberIds.stream()
+                .map(id -> names.getOrDefault(id, UNKNOWN_NICKNAME))
+                .toList();
+    }
+
+    /**
+     * 주어진 멤버 ID들의 닉네임을 조회합니다.
+     * near cache 에 없는 ID만 모아 한 번에 로딩하며 (Redis MGET 1회, Redis 미스가 있을 때만 벌크 API 1회 + 파이프라인 저장 1회),
+     * 다른 요청이 이미 로딩 중인 ID는 새로 조회하지 않고 그 결과를 기다립니다.
+     *
+     * @param memberIds 조회할 멤버 ID 목록
+     * @return 멤버 ID → 닉네임 맵 (멤버 서비스에서도 찾지 못한 ID는 포함되지 않음)
+     */
+    public Map<Long, String> resolveNames(Collection<Long> memberIds) {
+        List<Long> distinctIds = memberIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 로딩 함수는 호출 스레드에서 바로 실행 (미스 ID의 미완료 future 는 실행 전에 이미 등록됨)
+        return nearCache.getAll(distinctIds,
+                        (misses, executor) -> CompletableFuture.completedFuture(loadFromRemote(misses)))
+                .join();
+    }
+
+    /**
+     * 다른 경로(가입 요청 조회 등)에서 함께 받아 온 닉네임들을 near cache 와 Redis 에 저장합니다.
+     *
+     * @param names 멤버 ID → 닉네임 맵
+     */
+    public void cacheNames(Map<Long, String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        nearCache.synchronous().putAll(names);
+        writeToRedis(names);
+    }
+
+    // near cache 미스 ID들을 Redis → 멤버 서비스 순으로 조회
+    private Map<Long, String> loadFromRemote(Set<? extends Long> misses) {
+        List<Long> ids = new ArrayList<>(misses);
+        Map<Long, String> names = readFromRedis(ids);
+
+        List<Long> redisMisses = ids.stream()
+                .filter(id -> !names.containsKey(id))
+                .toList();
+        redisHitCounter.increment(names.size());
+        redisMissCounter.increment(redisMisses.size());
+
+        if (!redisMisses.isEmpty()) {
+            Map<Long, String> loaded = memberServiceLoadTimer.record(() -> loadFromMemberService(redisMisses));
+            writeToRedis(loaded);
+            names.putAll(loaded);
+        }
+
+        log.debug("[MEMBER][NAME] 닉네임 로딩 near cache 미스={} Redis 미스={}", ids.size(), redisMisses.size());
+        return names;
+    }
+
+    // Redis 장애 시 전체를 미스로 보고 멤버 서비스에서 조회 (캐시 장애가 화면 장애로 번지지 않도록)
+    private Map<Long, String> readFromRedis(List<Long> ids) {
+        Map<Long, String> names = new HashMap<>();
+        try {
+            List<String> cached = redisTemplate.opsForValue().multiGet(ids.stream().map(this::cacheKey).toList());
+            for (int i = 0; cached != null && i < ids.size(); i++) {
+                if (cached.get(i) != null) {
+                    names.put(ids.get(i), cached.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[MEMBER][NAME] Redis 닉네임 조회 실패 size={} cause={}", ids.size(), e.getMessage());
+        }
+        return names;
+    }
+
+    /**
+     * 조회한 닉네임들을 TTL과 함께 Redis 에 저장합니다.
+     * MSET 은 TTL을 지정할 수 없으므로, SET EX 명령을 파이프라인으로 묶어 한 번의 왕복으로 전송합니다.
+     */
+    private void writeToRedis(Map<Long, String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                names.forEach((memberId, name) -> connection.stringCommands().set(
+                        serializer.serialize(cacheKey(memberId)),
+                        serializer.serialize(name),
+                        redisExpiration,
+                        SetOption.upsert()
+                ));
+                return null; // 파이프라인 콜백은 반드시 null 반환
+            });
+        } catch (RuntimeException e) {
+            log.warn("[MEMBER][NAME] Redis 닉네임 저장 실패 size={} cause={}", names.size(), e.getMessage());
+        }
+    }
+
+    // 벌크 API 장애 시 단건 API 로 대체하지 않음 (장애 중인 멤버 서비스에 요청을 더 보내고 요청 스레드를 ID 수만큼 붙잡게 되므로)
+    private Map<Long, String> loadFromMemberService(List<Long> misses) {
+        try {
+            return memberApiService.getMemberNames(misses);
+        } catch (RuntimeException e) {
+            log.warn("[MEMBER][NAME] 벌크 닉네임 조회 실패, 알 수 없는 사용자로 표시 size={} cause={}", misses.size(), e.getMessage());
+            return Map.of(); // 미스는 UNKNOWN_NICKNAME (캐시하지 않으므로 다음 요청에서 다시 조회)
+        }
+    }
+
+    private String cacheKey(Long memberId) {
+        return CACHE_KEY_PREFIX + memberId; // (member:nickname:{id} : 닉네임)
+    }
+}
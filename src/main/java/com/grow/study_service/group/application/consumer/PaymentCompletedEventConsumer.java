@@ -1,49 +1,126 @@
 package com.grow.study_service.group.application.consumer;
 
+import com.grow.study_service.common.config.KafkaConsumerConfig;
+import com.grow.study_service.common.kafka.KeyOrderedBatchProcessor;
+import com.grow.study_service.common.kafka.KeyOrderedBatchProcessor.ItemFailedException;
+import com.grow.study_service.common.kafka.KeyOrderedBatchProcessor.KeyedItem;
 import com.grow.study_service.common.util.JsonUtils;
 import com.grow.study_service.group.application.dto.PaymentCompletedDto;
 import com.grow.study_service.groupmember.domain.enums.Role;
 import com.grow.study_service.groupmember.domain.model.GroupMember;
 import com.grow.study_service.groupmember.domain.repository.GroupMemberRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.annotation.RetryableTopic;
-import org.springframework.retry.annotation.Backoff;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PaymentCompletedEventConsumer {
 
     private final GroupMemberRepository groupMemberRepository;
+    private final KeyOrderedBatchProcessor keyOrderedProcessor;
+
+    public PaymentCompletedEventConsumer(GroupMemberRepository groupMemberRepository,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${payment.completed.key-ordered.workers:8}") int workers) { // 1 이면 순차 처리
+        this.groupMemberRepository = groupMemberRepository;
+        this.keyOrderedProcessor = new KeyOrderedBatchProcessor("payment-completed", workers, meterRegistry);
+    }
 
+    /**
+     * 결제 완료 이벤트를 poll 단위로 받아 그룹 멤버를 JDBC 배치로 저장합니다.
+     *
+     * <p>같은 배치 안의 중복 (groupId, memberId) 는 먼저 걸러내고, 이미 가입된 멤버는
+     * (group_id, member_id) 유니크 제약으로 건너뛰므로 이벤트가 다시 전달되어도 멱등합니다.
+     * 오프셋은 배치를 저장한 뒤 배치 단위로 커밋됩니다.</p>
+     *
+     * <p>저장은 groupId 기준으로 샤드를 나눠 {@link KeyOrderedBatchProcessor} 의 워커에서 동시에 수행합니다.
+     * 같은 그룹의 이벤트는 같은 샤드에서 수신 순서대로 저장되며, 파티션 수(리스너 concurrency)보다 큰 병렬도로 처리됩니다.</p>
+     *
+     * <p>변환할 수 없는 레코드(JSON 파싱 실패, 잘못된 ID)를 만나면 그 앞까지를 저장한 뒤 실패 위치를 알려,
+     * 에러 핸들러가 앞부분의 오프셋만 커밋하고 실패 레코드는 재시도 후 DLT 로 보냅니다.
+     * 샤드의 JDBC 배치 저장이 실패하면 한 건씩 다시 저장해 실제로 실패한 레코드를 찾고,
+     * 실패한 레코드 중 가장 앞의 위치부터 다시 전달됩니다. (정상 레코드가 대신 DLT 로 가지 않음, 재처리해도 중복 저장되지 않음)</p>
+     */
     @KafkaListener(
             topics = "payment-completed",
             groupId = "payment-service",
-            concurrency = "3"
-    )
-    @RetryableTopic(
-            attempts = "5",
-            backoff = @Backoff(delay = 1000, multiplier = 2),
-            dltTopicSuffix = ".dlt"
+            concurrency = "3",
+            containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY,
+            properties = "max.poll.records=${payment.completed.max-poll-records:500}" // 배치 최대 크기
     )
-    @Transactional
-    public void consumePaymentCompleted(String message) {
-        log.info("[PAYMENT COMPLETED] 결제 완료 이벤트 수신: {}", message.trim());
+    public void consumePaymentCompleted(List<ConsumerRecord<String, String>> records) {
+        log.info("[PAYMENT COMPLETED] 결제 완료 이벤트 배치 수신: size={}", records.size());
 
-        PaymentCompletedDto response = JsonUtils.fromJsonString(message, PaymentCompletedDto.class);
+        // (groupId, memberId) 기준으로 배치 안의 중복 제거 (수신 순서 유지)
+        Map<String, PendingMember> members = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            try {
+                PaymentCompletedDto response = JsonUtils.fromJsonString(record.value(), PaymentCompletedDto.class);
 
-        GroupMember groupMember = GroupMember.create(
-                response.getMemberId(),
-                response.getGroupId(),
-                Role.MEMBER
-        );
+                members.putIfAbsent(response.getGroupId() + ":" + response.getMemberId(), new PendingMember(
+                        i,
+                        record.timestamp(),
+                        GroupMember.create(
+                                response.getMemberId(),
+                                response.getGroupId(),
+                                Role.MEMBER
+                        )));
+            } catch (RuntimeException e) { // JSON 파싱 실패, 잘못된 ID (도메인 검증 실패)
+                saveMembers(members);
+                throw new BatchListenerFailedException("결제 완료 이벤트 변환 실패", e, i);
+            }
+        }
+
+        saveMembers(members);
+
+        log.info("[PAYMENT COMPLETED] 결제 완료 이벤트 배치 처리 완료: records={} members={}", records.size(), members.size());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        keyOrderedProcessor.close();
+    }
+
+    // groupId 샤드별로 동시에 저장 (같은 그룹은 같은 샤드에서 순서대로)
+    private void saveMembers(Map<String, PendingMember> members) {
+        keyOrderedProcessor.process(new ArrayList<>(members.values()), this::saveShard);
+    }
+
+    private void saveShard(List<PendingMember> shard) {
+        try {
+            groupMemberRepository.insertAllIgnoringDuplicates(shard.stream()
+                    .map(PendingMember::member)
+                    .toList());
+        } catch (RuntimeException batchFailure) {
+            // 배치는 통째로 롤백되므로 한 건씩 다시 저장해 실제 실패 레코드를 찾음 (앞의 레코드는 저장된 상태로 실패 위치 보고)
+            log.warn("[PAYMENT COMPLETED] 샤드 배치 저장 실패, 한 건씩 재시도 size={} cause={}", shard.size(), batchFailure.getMessage());
+            for (PendingMember pending : shard) {
+                try {
+                    groupMemberRepository.insertAllIgnoringDuplicates(List.of(pending.member()));
+                } catch (RuntimeException rowFailure) {
+                    throw new ItemFailedException(pending, rowFailure);
+                }
+            }
+        }
+    }
 
-        groupMemberRepository.save(groupMember);
+    private record PendingMember(int recordIndex, long timestamp, GroupMember member) implements KeyedItem {
 
-        log.info("[PAYMENT COMPLETED] 결제 완료 이벤트 처리 완료: {}", JsonUtils.toJsonString(response));
+        @Override
+        public Object key() {
+            return member.getGroupId(); // 그룹 단위 순서 보장
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,10 +2,10 @@ package com.grow.study_service.group.application.create;
 
 import com.grow.study_service.common.exception.ErrorCode;
 import com.grow.study_service.common.exception.service.ServiceException;
+import com.grow.study_service.group.application.event.GroupIndexRequestedEvent;
 import com.grow.study_service.group.domain.document.GroupDocument;
 import com.grow.study_service.group.domain.model.Group;
 import com.grow.study_service.group.domain.repository.GroupRepository;
-import com.grow.study_service.group.infra.persistence.repository.elastic.GroupDocumentRepository;
 import com.grow.study_service.group.presentation.dto.create.GroupCreateRequest;
 import com.grow.study_service.groupmember.domain.enums.Role;
 import com.grow.study_service.groupmember.domain.model.GroupMember;
@@ -14,6 +14,7 @@ import io.micrometer.core.annotation.Counted;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +25,7 @@ public class GroupCreateServiceImpl implements GroupCreateService {
 
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final GroupDocumentRepository groupDocumentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 그룹 생성을 수행합니다.
@@ -47,8 +48,8 @@ public class GroupCreateServiceImpl implements GroupCreateService {
         // 2. 그룹 생성
         Group saved = groupRepository.save(createNewGroup(request));
 
-        // 3. 도큐먼트 객체 생성 + 4. 엘라스틱 서치에도 반영되도록 함
-        groupDocumentRepository.save(createNewDocument(saved));
+        // 3. 도큐먼트 객체 생성 + 4. 커밋 후 색인 파이프라인을 통해 엘라스틱 서치에 반영 (ES 응답을 기다리지 않음)
+        eventPublisher.publishEvent(new GroupIndexRequestedEvent(GroupDocument.from(saved)));
 
         // 5. 그룹에 그룹 멤버를 추가, 리더로 지정
         groupMemberRepository.save(GroupMember.create(memberId, saved.getGroupId(), Role.LEADER));
@@ -57,21 +58,6 @@ public class GroupCreateServiceImpl implements GroupCreateService {
         return saved.getGroupId();
     }
 
-    private GroupDocument createNewDocument(Group saved) {
-        return new GroupDocument(
-                saved.getGroupId().toString(), // 원본 Long 타입 저장 -> String 타입으로 저장
-                saved.getName(),
-                saved.getDescription(),
-                saved.getCategory().getDescription(),
-                saved.getStartAt(),
-                saved.getEndAt(),
-                saved.getAmount(),
-                saved.getViewCount(),
-                saved.getPersonalityTag(),
-                saved.getSkillTag().getDescription()
-        );
-    }
-
     @NotNull
     private Group createNewGroup(GroupCreateRequest request) {
         return Group.create(
@@ -0,0 +1,111 @@
+package com.grow.study_service.group.application.dto;
+
+import com.grow.study_service.common.exception.ErrorCode;
+import com.grow.study_service.common.exception.service.ServiceException;
+import com.grow.study_service.group.domain.enums.GroupSortType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 그룹 목록 커서(keyset) 페이지네이션의 위치 정보.
+ * 마지막으로 전달한 그룹의 (정렬 키, 그룹 ID)를 담고 있으며,
+ * 클라이언트에게는 내부 구조를 알 수 없도록 Base64(URL-safe) 문자열 토큰으로 전달합니다.
+ *
+ * <p>토큰 형식 (인코딩 전): {@code 정렬기준:정렬키값:그룹ID} (예: {@code START_AT:2025-08-07:120})
+ * 시작 날짜가 없는(null) 그룹은 정렬키값을 비워 둡니다. (예: {@code START_AT::120})</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GroupCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final GroupSortType sortType;
+    private final LocalDate startAt; // START_AT 정렬일 때만 사용 (시작 날짜가 없는 그룹이면 null)
+    private final Integer viewCount; // VIEW_COUNT 정렬일 때만 사용
+    private final Long groupId; // 동점일 때 순서를 보장하는 보조 키 (null 이면 첫 페이지)
+
+    /**
+     * 첫 페이지 조회용 커서를 생성합니다. (조건 없이 처음부터 조회)
+     */
+    public static GroupCursor first(GroupSortType sortType) {
+        return new GroupCursor(sortType, null, null, null);
+    }
+
+    /**
+     * 현재 페이지의 마지막 그룹을 기준으로 다음 페이지 커서를 생성합니다.
+     *
+     * @param sortType 현재 정렬 기준
+     * @param last     현재 페이지의 마지막 그룹
+     */
+    public static GroupCursor next(GroupSortType sortType, GroupWithLeader last) {
+        return switch (sortType) {
+            case START_AT -> new GroupCursor(sortType, last.getStartAt(), null, last.getGroupId());
+            case VIEW_COUNT -> new GroupCursor(sortType, null, last.getViewCount(), last.getGroupId());
+        };
+    }
+
+    /**
+     * 요청 파라미터(sortBy)를 정렬 기준으로 변환합니다.
+     *
+     * @throws ServiceException 지원하지 않는 정렬 기준인 경우 ({@link ErrorCode#INVALID_SORT_BY_VALUE})
+     */
+    public static GroupSortType parseSortType(String sortBy) {
+        return GroupSortType.fromKey(sortBy)
+                .orElseThrow(() -> new ServiceException(ErrorCode.INVALID_SORT_BY_VALUE));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 토큰을 해석합니다. 토큰이 없으면 첫 페이지 커서를 반환합니다.
+     *
+     * @param sortType 요청한 정렬 기준 (토큰의 정렬 기준과 일치해야 함)
+     * @param token    이전 응답에서 받은 nextCursor 값 (null 또는 빈 문자열 가능)
+     * @throws ServiceException 토큰이 손상되었거나 정렬 기준이 다른 경우 ({@link ErrorCode#INVALID_CURSOR})
+     */
+    public static GroupCursor decode(GroupSortType sortType, String token) {
+        if (token == null || token.isBlank()) {
+            return first(sortType);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, -1);
+
+            if (parts.length != 3 || GroupSortType.valueOf(parts[0]) != sortType) {
+                throw new ServiceException(ErrorCode.INVALID_CURSOR);
+            }
+
+            Long groupId = Long.parseLong(parts[2]);
+            return switch (sortType) {
+                case START_AT -> new GroupCursor(sortType, parts[1].isEmpty() ? null : LocalDate.parse(parts[1]), null, groupId);
+                case VIEW_COUNT -> new GroupCursor(sortType, null, Integer.parseInt(parts[1]), groupId);
+            };
+        } catch (ServiceException e) {
+            throw e;
+        } catch (RuntimeException e) { // Base64, 숫자, 날짜 파싱 실패 모두 잘못된 커서로 처리
+            throw new ServiceException(e, ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에게 전달할 토큰 문자열로 변환합니다.
+     */
+    public String encode() {
+        String sortValue = switch (sortType) {
+            case START_AT -> startAt == null ? "" : startAt.toString();
+            case VIEW_COUNT -> viewCount.toString();
+        };
+
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + groupId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirstPage() {
+        return groupId == null;
+    }
+}
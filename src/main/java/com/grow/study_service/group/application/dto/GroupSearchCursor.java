@@ -0,0 +1,67 @@
+package com.grow.study_service.group.application.dto;
+
+import com.grow.study_service.common.exception.ErrorCode;
+import com.grow.study_service.common.exception.service.ServiceException;
+import com.grow.study_service.common.util.JsonUtils;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 그룹 검색의 search_after 이어보기 위치 정보.
+ * 마지막으로 전달한 검색 결과의 정렬 값(sort values)과 point-in-time ID 를 담고 있으며,
+ * 클라이언트에게는 Base64(URL-safe) JSON 토큰으로 전달합니다.
+ *
+ * <p>from/size 페이지에서 만든 커서는 point-in-time ID 가 없으며, 이 커서로 처음 이어볼 때 point-in-time 을 엽니다.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GroupSearchCursor {
+
+    private final String sortKey; // 커서를 만든 정렬 기준 (예: startAt:DESC) - 다른 정렬로 이어볼 수 없음
+    private final String pointInTimeId; // null 이면 아직 point-in-time 을 열지 않음
+    private final List<Object> searchAfter; // 마지막 결과의 정렬 값 (정렬 필드, id)
+    private final boolean fuzzy; // 첫 페이지가 fuzzy 단계로 응답했는지 (이어보기도 같은 단계로 검색)
+
+    public static GroupSearchCursor of(String sortKey, String pointInTimeId, List<Object> searchAfter, boolean fuzzy) {
+        return new GroupSearchCursor(sortKey, pointInTimeId, searchAfter, fuzzy);
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 토큰을 해석합니다.
+     *
+     * @param sortKey 요청한 정렬 기준 (토큰의 정렬 기준과 일치해야 함)
+     * @param token   이전 응답에서 받은 nextCursor 값
+     * @throws ServiceException 토큰이 손상되었거나 정렬 기준이 다른 경우 ({@link ErrorCode#INVALID_CURSOR})
+     */
+    public static GroupSearchCursor decode(String sortKey, String token) {
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            Payload payload = JsonUtils.fromJsonString(json, Payload.class);
+
+            if (!sortKey.equals(payload.sortKey()) || payload.searchAfter() == null || payload.searchAfter().isEmpty()) {
+                throw new ServiceException(ErrorCode.INVALID_CURSOR);
+            }
+            return new GroupSearchCursor(payload.sortKey(), payload.pit(), payload.searchAfter(), payload.fuzzy());
+        } catch (ServiceException e) {
+            throw e;
+        } catch (RuntimeException e) { // Base64, JSON 파싱 실패 모두 잘못된 커서로 처리
+            throw new ServiceException(e, ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에게 전달할 토큰 문자열로 변환합니다.
+     */
+    public String encode() {
+        String json = JsonUtils.toJsonString(new Payload(sortKey, pointInTimeId, searchAfter, fuzzy));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    record Payload(String sortKey, String pit, List<Object> searchAfter, boolean fuzzy) {
+    }
+}
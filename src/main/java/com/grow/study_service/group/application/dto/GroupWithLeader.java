@@ -1,14 +1,30 @@
 package com.grow.study_service.group.application.dto;
 
-import com.grow.study_service.group.domain.model.Group;
-import com.grow.study_service.groupmember.domain.model.GroupMember;
+import com.grow.study_service.group.domain.enums.Category;
+import com.grow.study_service.group.domain.enums.PersonalityTag;
+import com.grow.study_service.group.domain.enums.SkillTag;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDate;
+
+/**
+ * 그룹 목록 조회용 프로젝션 (그룹 + 리더의 멤버 ID)
+ * study_groups 와 group_member(LEADER) 를 한 번의 조인으로 읽어 온 평평한(flat) 결과로,
+ * Group 도메인 객체나 GroupMember 도메인 객체를 만들지 않습니다.
+ */
 @Getter
 @AllArgsConstructor
 public class GroupWithLeader {
 
-    private Group group;
-    private GroupMember leader;
+    private Long groupId;
+    private String name;
+    private Category category;
+    private String description;
+    private int amount;
+    private PersonalityTag personalityTag;
+    private SkillTag skillTag;
+    private LocalDate startAt; // 커서 정렬 키 (최신순)
+    private int viewCount; // 커서 정렬 키 (조회수순)
+    private Long leaderId; // 그룹 리더의 멤버 ID
 }
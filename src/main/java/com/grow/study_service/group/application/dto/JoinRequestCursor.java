@@ -0,0 +1,79 @@
+package com.grow.study_service.group.application.dto;
+
+import com.grow.study_service.common.exception.ErrorCode;
+import com.grow.study_service.common.exception.service.ServiceException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 그룹 가입 요청 목록 커서 페이지네이션의 위치 정보.
+ * 마지막으로 전달한 요청의 (요청 시각, 멤버 ID)를 담고 있으며,
+ * 클라이언트에게는 Base64(URL-safe) 문자열 토큰으로 전달합니다.
+ *
+ * <p>토큰 형식 (인코딩 전): {@code 요청시각(ms):멤버ID} (예: {@code 1754524800000:42})</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class JoinRequestCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final long requestedAt; // 마지막 요청의 요청 시각 (epoch ms)
+    private final Long memberId; // 요청 시각이 같을 때 순서를 보장하는 보조 키 (null 이면 첫 페이지)
+
+    /**
+     * 첫 페이지 조회용 커서를 생성합니다. (가장 오래된 요청부터 조회)
+     */
+    public static JoinRequestCursor first() {
+        return new JoinRequestCursor(0L, null);
+    }
+
+    /**
+     * 현재 페이지의 마지막 요청을 기준으로 다음 페이지 커서를 생성합니다.
+     */
+    public static JoinRequestCursor next(PendingJoinRequest last) {
+        return new JoinRequestCursor(last.getRequestedAt(), last.getMemberId());
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 토큰을 해석합니다. 토큰이 없으면 첫 페이지 커서를 반환합니다.
+     *
+     * @param token 이전 응답에서 받은 nextCursor 값 (null 또는 빈 문자열 가능)
+     * @throws ServiceException 토큰이 손상된 경우 ({@link ErrorCode#INVALID_CURSOR})
+     */
+    public static JoinRequestCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return first();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+
+            if (parts.length != 2) {
+                throw new ServiceException(ErrorCode.INVALID_CURSOR);
+            }
+            return new JoinRequestCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (ServiceException e) {
+            throw e;
+        } catch (RuntimeException e) { // Base64, 숫자 파싱 실패 모두 잘못된 커서로 처리
+            throw new ServiceException(e, ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에게 전달할 토큰 문자열로 변환합니다.
+     */
+    public String encode() {
+        String raw = requestedAt + DELIMITER + memberId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirstPage() {
+        return memberId == null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.grow.study_service.group.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹장 가입 요청 관리 화면용 프로젝션 (리더인 그룹의 ID + 이름)
+ * group_member(LEADER) 와 study_groups 를 한 번의 조인으로 읽어 옵니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LeaderGroup {
+
+    private Long groupId;
+    private String name;
+}
@@ -0,0 +1,15 @@
+package com.grow.study_service.group.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 처리 대기 중인 그룹 가입 요청 (Redis ZSET 의 멤버 ID + score)
+ */
+@Getter
+@AllArgsConstructor
+public class PendingJoinRequest {
+
+    private Long memberId; // 가입 요청한 멤버 ID
+    private long requestedAt; // 요청 시각 (epoch ms, 목록 커서 정렬 키)
+}
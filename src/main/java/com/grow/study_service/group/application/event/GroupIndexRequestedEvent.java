@@ -0,0 +1,13 @@
+package com.grow.study_service.group.application.event;
+
+import com.grow.study_service.group.domain.document.GroupDocument;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 그룹이 생성/수정된 후 검색 색인 반영을 요청하는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class GroupIndexRequestedEvent {
+
+    private final GroupDocument document; // 커밋 시점의 그룹 도큐먼트
+}
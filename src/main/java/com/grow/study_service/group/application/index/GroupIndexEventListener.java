@@ -0,0 +1,20 @@
+package com.grow.study_service.group.application.index;
+
+import com.grow.study_service.group.application.event.GroupIndexRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class GroupIndexEventListener {
+
+    private final GroupIndexingPipeline groupIndexingPipeline;
+
+    // 커밋된 그룹만 색인 (롤백되면 이벤트가 전달되지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupIndexRequested(GroupIndexRequestedEvent event) {
+        groupIndexingPipeline.enqueue(event.getDocument());
+    }
+}
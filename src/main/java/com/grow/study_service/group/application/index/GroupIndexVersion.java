@@ -0,0 +1,62 @@
+package com.grow.study_service.group.application.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 그룹 검색 인덱스(groups)의 변경 버전.
+ * 색인 쪽이 도큐먼트를 반영할 때마다 Redis 카운터를 올리고, 검색 결과 캐시는 이 버전을 키에 포함해
+ * 버전이 바뀌면 이전 결과를 더 이상 사용하지 않습니다.
+ *
+ * <p>검색 요청마다 Redis 를 조회하지 않도록 인스턴스 메모리의 값을 사용하며,
+ * 다른 인스턴스가 올린 버전은 주기적으로 가져옵니다. (최대 poll 간격만큼 늦게 반영)</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupIndexVersion {
+
+    private static final String VERSION_KEY = "group:index:version";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final AtomicLong current = new AtomicLong();
+
+    public long current() {
+        return current.get();
+    }
+
+    /**
+     * 인덱스가 바뀌었음을 알립니다. (Redis 장애 시에도 이 인스턴스의 버전은 올려 자신의 캐시는 무효화)
+     */
+    public void bump() {
+        try {
+            Long next = redisTemplate.opsForValue().increment(VERSION_KEY);
+            if (next != null) {
+                current.accumulateAndGet(next, Math::max);
+            } else {
+                current.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            current.incrementAndGet();
+            log.warn("[GROUP][INDEX][VERSION] Redis 버전 증가 실패 cause={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${group.search.cache.version-poll-ms:1000}")
+    public void refresh() {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY);
+            if (value != null) {
+                current.accumulateAndGet(Long.parseLong(value), Math::max);
+            }
+        } catch (RuntimeException e) {
+            log.debug("[GROUP][INDEX][VERSION] Redis 버전 조회 실패 cause={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.grow.study_service.group.application.index;
+
+import com.grow.study_service.group.domain.document.GroupDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그룹 도큐먼트를 모아서 Elasticsearch bulk API 로 색인하는 비동기 파이프라인.
+ *
+ * <ol>
+ *   <li>커밋된 그룹 도큐먼트를 크기가 제한된 큐에 넣습니다. 큐가 가득 차면 enqueue-timeout 동안 기다리고 (backpressure),
+ *       그래도 자리가 없으면 버리고 group.index.dropped 로 기록합니다. (전체 재색인으로 복구)</li>
+ *   <li>색인 스레드가 batch-size 건이 모이거나 flush-interval 이 지나면 한 번의 bulk 요청으로 색인합니다.
+ *       같은 그룹이 여러 번 들어오면 마지막 도큐먼트만 보냅니다.</li>
+ *   <li>실패한 도큐먼트는 지수 백오프로 max-attempts 번까지 재시도합니다. (bulk 부분 실패 시 실패한 건만 재시도)</li>
+ * </ol>
+ *
+ * <p>bulk 는 refresh=wait_for 로 보내 색인한 도큐먼트가 검색에 보이게 된 뒤에 응답을 받고, 그 다음에 검색 결과 캐시 버전을 올립니다.
+ * (refresh 전에 버전을 올리면 새 버전 키로 refresh 전의 결과가 캐시되어 TTL 동안 남음)
+ * 응답을 기다리는 동안(최대 refresh_interval) 들어온 도큐먼트는 다음 bulk 에 모입니다.</p>
+ *
+ * <p>메트릭: {@code group.index.lag} (커밋 후 색인 완료까지 걸린 시간), {@code group.index.queue.size},
+ * {@code group.index.bulk} (bulk 요청 시간), {@code group.index.indexed} / {@code failed} / {@code dropped} (건수)</p>
+ */
+@Slf4j
+@Component
+public class GroupIndexingPipeline {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final GroupIndexVersion groupIndexVersion;
+
+    private final BlockingQueue<PendingDocument> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration enqueueTimeout;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    private final Timer lagTimer;
+    private final Timer bulkTimer;
+    private final Counter indexedCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public GroupIndexingPipeline(ElasticsearchOperations elasticsearchOperations,
+                                 GroupIndexVersion groupIndexVersion,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${group.index.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${group.index.batch-size:200}") int batchSize,
+                                 @Value("${group.index.flush-interval-ms:1000}") long flushIntervalMillis,
+                                 @Value("${group.index.enqueue-timeout-ms:500}") long enqueueTimeoutMillis,
+                                 @Value("${group.index.max-attempts:5}") int maxAttempts,
+                                 @Value("${group.index.initial-backoff-ms:200}") long initialBackoffMillis) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.groupIndexVersion = groupIndexVersion;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = Duration.ofMillis(flushIntervalMillis);
+        this.enqueueTimeout = Duration.ofMillis(enqueueTimeoutMillis);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+
+        this.lagTimer = Timer.builder("group.index.lag")
+                .description("그룹 커밋 후 검색 색인 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.bulkTimer = Timer.builder("group.index.bulk").register(meterRegistry);
+        this.indexedCounter = Counter.builder("group.index.indexed").register(meterRegistry);
+        this.failedCounter = Counter.builder("group.index.failed").register(meterRegistry);
+        this.droppedCounter = Counter.builder("group.index.dropped").register(meterRegistry);
+        Gauge.builder("group.index.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("group-indexer")
+                .daemon(true)
+                .start(this::runLoop);
+    }
+
+    // 종료 시 큐에 남은 도큐먼트까지 색인
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(Duration.ofSeconds(30).toMillis());
+    }
+
+    /**
+     * 색인할 도큐먼트를 큐에 넣습니다. 큐가 가득 차면 enqueue-timeout 까지 호출 스레드를 대기시킵니다.
+     */
+    public void enqueue(GroupDocument document) {
+        try {
+            if (!queue.offer(new PendingDocument(document, System.nanoTime()), enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                droppedCounter.increment();
+                log.error("[GROUP][INDEX][DROPPED] 색인 큐가 가득 차 도큐먼트를 버립니다. groupId={}", document.getId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCounter.increment();
+        }
+    }
+
+    private void runLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PendingDocument> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    indexWithRetry(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) { // 색인 스레드가 죽지 않도록
+                log.error("[GROUP][INDEX] 색인 처리 중 예외", e);
+            }
+        }
+    }
+
+    // batch-size 건이 모이거나 첫 도큐먼트 이후 flush-interval 이 지날 때까지 모음
+    private List<PendingDocument> nextBatch() throws InterruptedException {
+        List<PendingDocument> batch = new ArrayList<>(batchSize);
+        PendingDocument first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+
+            PendingDocument next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void indexWithRetry(List<PendingDocument> batch) throws InterruptedException {
+        // 같은 그룹은 마지막 도큐먼트만 색인 (대기 시간은 가장 먼저 들어온 것 기준)
+        Map<String, PendingDocument> pending = new LinkedHashMap<>();
+        for (PendingDocument document : batch) {
+            pending.merge(document.document().getId(), document,
+                    (previous, latest) -> new PendingDocument(latest.document(), previous.enqueuedAt()));
+        }
+
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+            Set<String> failedIds = bulkIndex(pending.values());
+
+            long now = System.nanoTime();
+            pending.values().stream()
+                    .filter(document -> !failedIds.contains(document.document().getId()))
+                    .forEach(document -> lagTimer.record(now - document.enqueuedAt(), TimeUnit.NANOSECONDS));
+            indexedCounter.increment(pending.size() - failedIds.size());
+            if (pending.size() > failedIds.size()) {
+                groupIndexVersion.bump(); // 검색 결과 캐시 무효화 (bulk 가 refresh 까지 기다린 뒤)
+            }
+            pending.keySet().retainAll(failedIds);
+
+            if (!pending.isEmpty() && attempt < maxAttempts) {
+                log.warn("[GROUP][INDEX][RETRY] 색인 실패 {}건 재시도 attempt={} backoff={}ms", pending.size(), attempt, backoff.toMillis());
+                Thread.sleep(backoff.toMillis());
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            failedCounter.increment(pending.size());
+            log.error("[GROUP][INDEX][FAILED] 재시도 후에도 색인 실패 groupIds={}", pending.keySet());
+        }
+    }
+
+    // bulk 색인 후 실패한 도큐먼트 ID 반환
+    private static final BulkOptions WAIT_FOR_REFRESH = BulkOptions.builder()
+            .withRefreshPolicy(RefreshPolicy.WAIT_UNTIL) // 검색에 반영된 뒤 응답 -> 이후 캐시 버전 증가
+            .build();
+
+    private Set<String> bulkIndex(Collection<PendingDocument> documents) {
+        List<IndexQuery> queries = documents.stream()
+                .map(document -> new IndexQueryBuilder()
+                        .withId(document.document().getId())
+                        .withObject(document.document())
+                        .build())
+                .toList();
+
+        try {
+            bulkTimer.record(() -> elasticsearchOperations.bulkIndex(queries, WAIT_FOR_REFRESH, GroupDocument.class));
+            return Set.of();
+        } catch (BulkFailureException e) { // 일부 도큐먼트만 실패
+            log.warn("[GROUP][INDEX] bulk 부분 실패 {}건 cause={}", e.getFailedDocuments().size(), e.getMessage());
+            return e.getFailedDocuments().keySet();
+        } catch (RuntimeException e) { // 요청 자체 실패 → 전체 재시도
+            log.warn("[GROUP][INDEX] bulk 요청 실패 {}건 cause={}", queries.size(), e.getMessage());
+            Set<String> all = new HashSet<>();
+            documents.forEach(document -> all.add(document.document().getId()));
+            return all;
+        }
+    }
+
+    private record PendingDocument(GroupDocument document, long enqueuedAt) {
+    }
+}
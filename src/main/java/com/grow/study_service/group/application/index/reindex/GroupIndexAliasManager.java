@@ -0,0 +1,150 @@
+package com.grow.study_service.group.application.index.reindex;
+
+import com.grow.study_service.group.domain.document.GroupDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 검색 인덱스의 버전(groups_v{n})과 읽기/쓰기 별칭(groups)을 관리합니다.
+ *
+ * <p>애플리케이션은 항상 별칭 {@code groups} 로 읽고 쓰며,
+ * 전체 재색인은 새 버전 인덱스를 채운 뒤 별칭을 한 번의 요청으로 옮겨 무중단으로 교체합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupIndexAliasManager {
+
+    public static final String ALIAS = "groups"; // GroupDocument 의 indexName
+    private static final String VERSION_PREFIX = ALIAS + "_v";
+    private static final Pattern VERSION_PATTERN = Pattern.compile("^" + VERSION_PREFIX + "(\\d+)$");
+    private static final int MAX_VERSION_PROBES = 10; // 잔여 인덱스를 건너뛰며 시도할 최대 버전 수
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    /**
+     * 현재 별칭이 가리키는 버전 다음 버전의 인덱스를 GroupDocument 의 설정/매핑으로 생성합니다.
+     *
+     * <p>직접 만들지 않은 인덱스는 지우지 않습니다. 같은 이름의 인덱스가 이미 있으면 (이전 재색인의 잔여 인덱스 또는
+     * 다른 실행이 만든 인덱스) 건너뛰고 다음 버전으로 생성합니다. 잔여 인덱스는 로그를 보고 운영에서 정리합니다.</p>
+     *
+     * @return 생성한 인덱스 이름 (예: groups_v3)
+     */
+    public String createNextIndex() {
+        int nextVersion = currentAliasTargets().stream()
+                .mapToInt(this::versionOf)
+                .max()
+                .orElse(0) + 1;
+
+        IndexOperations documentOps = elasticsearchOperations.indexOps(GroupDocument.class);
+        Settings settings = documentOps.createSettings(GroupDocument.class);
+        Document mapping = documentOps.createMapping(GroupDocument.class);
+
+        for (int version = nextVersion; version < nextVersion + MAX_VERSION_PROBES; version++) {
+            String indexName = VERSION_PREFIX + version;
+            IndexOperations targetOps = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+            if (targetOps.exists()) {
+                log.warn("[GROUP][REINDEX] 이미 있는 인덱스는 건너뜀 (정리 필요) index={}", indexName);
+                continue;
+            }
+
+            try {
+                targetOps.create(settings, mapping); // 인덱스 생성은 원자적이라 동시에 만들면 한 쪽만 성공
+            } catch (RuntimeException e) {
+                if (targetOps.exists()) {
+                    log.warn("[GROUP][REINDEX] 동시에 생성된 인덱스는 건너뜀 index={}", indexName);
+                    continue;
+                }
+                throw e;
+            }
+
+            log.info("[GROUP][REINDEX] 새 인덱스 생성 index={}", indexName);
+            return indexName;
+        }
+
+        throw new IllegalStateException("재색인 대상 인덱스를 만들 수 없습니다. 남아 있는 " + VERSION_PREFIX
+                + "{n} 인덱스를 정리해 주세요. from=" + VERSION_PREFIX + nextVersion);
+    }
+
+    public void refresh(String indexName) {
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).refresh();
+    }
+
+    public long count(String indexName) {
+        return elasticsearchOperations.count(Query.findAll(), GroupDocument.class, IndexCoordinates.of(indexName));
+    }
+
+    /**
+     * 별칭을 새 인덱스로 원자적으로 옮깁니다. (제거/추가를 하나의 _aliases 요청으로 전송)
+     * 별칭 도입 전처럼 {@code groups} 가 실제 인덱스라면 같은 요청에서 그 인덱스를 삭제하고 별칭으로 대체합니다.
+     *
+     * @param targetIndex 별칭이 가리킬 새 인덱스
+     * @return 이전에 별칭이 가리키던 인덱스 목록 (롤백/정리용으로 삭제하지 않고 남겨 둠)
+     */
+    public List<String> swapAlias(String targetIndex) {
+        List<String> previous = new ArrayList<>(currentAliasTargets());
+        List<AliasAction> actions = new ArrayList<>();
+
+        if (previous.isEmpty() && elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS)).exists()) {
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                    .withIndices(ALIAS)
+                    .build()));
+            log.warn("[GROUP][REINDEX] 실제 인덱스 {} 를 삭제하고 별칭으로 대체합니다.", ALIAS);
+        }
+
+        previous.stream()
+                .filter(index -> !index.equals(targetIndex))
+                .forEach(index -> actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                        .withIndices(index)
+                        .withAliases(ALIAS)
+                        .build())));
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(targetIndex)
+                .withAliases(ALIAS)
+                .withIsWriteIndex(true)
+                .build()));
+
+        elasticsearchOperations.indexOps(IndexCoordinates.of(targetIndex))
+                .alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+
+        log.info("[GROUP][REINDEX] 별칭 교체 완료 alias={} {} -> {}", ALIAS, previous, targetIndex);
+        return previous;
+    }
+
+    // 별칭이 아직 없거나 groups 가 실제 인덱스이면 빈 목록
+    private Set<String> currentAliasTargets() {
+        try {
+            return elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS))
+                    .getAliases(ALIAS)
+                    .entrySet().stream()
+                    .filter(entry -> !entry.getValue().isEmpty())
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+        } catch (RuntimeException e) {
+            return Set.of();
+        }
+    }
+
+    private int versionOf(String indexName) {
+        Matcher matcher = VERSION_PATTERN.matcher(indexName);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+}
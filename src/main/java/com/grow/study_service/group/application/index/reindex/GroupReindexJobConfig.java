@@ -0,0 +1,339 @@
+package com.grow.study_service.group.application.index.reindex;
+
+import com.grow.study_service.group.application.index.GroupIndexVersion;
+import com.grow.study_service.group.domain.document.GroupDocument;
+import com.grow.study_service.group.domain.enums.Category;
+import com.grow.study_service.group.domain.enums.PersonalityTag;
+import com.grow.study_service.group.domain.enums.SkillTag;
+import com.grow.study_service.group.domain.model.Group;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL 의 전체 그룹을 새 버전 Elasticsearch 인덱스로 다시 색인하는 Spring Batch 설정입니다.
+ *
+ * <ol>
+ *   <li>prepare: 다음 버전 인덱스(groups_v{n})를 만들고, 현재 최대 그룹 ID를 스냅샷 경계로 기록합니다.</li>
+ *   <li>reindex: 그룹 ID 구간을 grid-size 개로 나눠 파티션별 스레드에서 keyset(id 오름차순) 페이징으로 읽고,
+ *       청크마다 bulk 요청 한 번으로 새 인덱스에 씁니다. 파티션별 처리량(docs/s)을 로그와 메트릭으로 남깁니다.</li>
+ *   <li>swap: 새 인덱스 도큐먼트 수가 DB 의 그룹 수(스냅샷 경계까지)와 같을 때만 별칭 groups 를 원자적으로 옮깁니다.
+ *       다르면 Job 을 실패시키고 별칭은 그대로 둡니다.</li>
+ *   <li>catch-up: 재색인 중에 생성된 그룹(스냅샷 경계 이후)을 별칭을 통해 새 인덱스에 색인합니다.</li>
+ * </ol>
+ *
+ * <p>재색인 중에도 검색/색인 파이프라인은 별칭이 가리키는 기존 인덱스를 그대로 사용하므로 검색 중단이 없습니다.
+ * 애플리케이션 시작 시 자동 실행되지 않도록 Job 은 빈으로 등록하지 않고, {@link GroupReindexJobLauncher} 가 실행할 때마다 만듭니다.</p>
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class GroupReindexJobConfig {
+
+    public static final String JOB_NAME = "groupReindexJob";
+    public static final String LOCK_TOKEN_PARAMETER = "lock.token"; // GroupReindexLock 토큰 (식별용 파라미터 아님)
+
+    private static final String SELECT_CLAUSE = "SELECT id, name, category, description, amount, view_count, " +
+            "personality_tag, skill_tag, start_at, end_at, version";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskExecutor taskExecutor;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final GroupIndexAliasManager aliasManager;
+    private final GroupIndexVersion groupIndexVersion;
+    private final GroupReindexLock reindexLock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${group.reindex.grid-size:4}")
+    private int gridSize;
+
+    @Value("${group.reindex.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 재색인 Job 을 생성합니다. (빈이 아니므로 실행할 때마다 호출)
+     */
+    public Job groupReindexJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(groupReindexPrepareStep())
+                .next(groupReindexPartitionStep())
+                .next(groupReindexSwapStep())
+                .next(groupReindexCatchUpStep())
+                .listener(lockReleaseListener())
+                .build();
+    }
+
+    // 성공/실패와 관계없이 Job 이 끝나면 GroupReindexJobLauncher 가 잡은 분산 락 해제
+    private JobExecutionListener lockReleaseListener() {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                String lockToken = jobExecution.getJobParameters().getString(LOCK_TOKEN_PARAMETER);
+                if (lockToken != null) {
+                    reindexLock.release(lockToken);
+                }
+            }
+        };
+    }
+
+    /**
+     * 새 인덱스 생성 + 스냅샷 경계(minId, maxId) 기록.
+     * 이후 Step 들은 Job ExecutionContext 에서 targetIndex, minId, maxId 를 읽습니다.
+     */
+    @Bean
+    public Step groupReindexPrepareStep() {
+        return new StepBuilder("groupReindexPrepareStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                            .getJobExecution().getExecutionContext();
+
+                    Long minId = jdbcTemplate.queryForObject("SELECT COALESCE(MIN(id), 0) FROM study_groups", Long.class);
+                    Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM study_groups", Long.class);
+                    String targetIndex = aliasManager.createNextIndex();
+
+                    jobContext.putString("targetIndex", targetIndex);
+                    jobContext.putLong("minId", minId);
+                    jobContext.putLong("maxId", maxId);
+
+                    log.info("[GROUP][REINDEX][START] 전체 재색인 시작 index={} idRange=[{}, {}]", targetIndex, minId, maxId);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    /**
+     * ID 구간 파티션을 taskExecutor 스레드에서 병렬로 실행하는 manager Step.
+     */
+    @Bean
+    public Step groupReindexPartitionStep() {
+        return new StepBuilder("groupReindexPartitionStep", jobRepository)
+                .partitioner("groupReindexWorkerStep", groupIdRangePartitioner(null, null))
+                .step(groupReindexWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    /**
+     * [minId, maxId] 를 grid-size 개의 연속 ID 구간으로 나눕니다. (ID 가 비어 있는 구간은 읽을 것이 없을 뿐 문제 없음)
+     */
+    @Bean
+    @JobScope
+    public Partitioner groupIdRangePartitioner(@Value("#{jobExecutionContext['minId']}") Long minId,
+                                               @Value("#{jobExecutionContext['maxId']}") Long maxId) {
+        return grid -> {
+            long rangeSize = Math.max(1, (maxId - minId + grid) / grid); // 올림 나눗셈
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+
+            long start = minId;
+            for (int i = 0; start <= maxId; i++) {
+                long end = Math.min(maxId, start + rangeSize - 1);
+
+                ExecutionContext context = new ExecutionContext();
+                context.putLong("fromId", start);
+                context.putLong("toId", end);
+                partitions.put("partition" + i, context);
+
+                start = end + 1;
+            }
+            return partitions;
+        };
+    }
+
+    /**
+     * 파티션 하나(ID 구간)를 청크 단위로 읽어 bulk 색인하는 worker Step.
+     * 파티션 자체가 스레드 단위이므로 worker Step 에는 taskExecutor 를 두지 않습니다. (reader 가 스레드 안전하지 않음)
+     */
+    @Bean
+    public Step groupReindexWorkerStep() {
+        return new StepBuilder("groupReindexWorkerStep", jobRepository)
+                .<GroupDocument, GroupDocument>chunk(chunkSize, transactionManager)
+                .reader(groupReindexReader(null, null))
+                .writer(groupReindexWriter(null))
+                .listener(partitionThroughputListener())
+                .build();
+    }
+
+    /**
+     * ID 구간을 id 오름차순 keyset 페이징으로 읽습니다. (WHERE id > 마지막 id LIMIT n → OFFSET 없이 일정한 속도)
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<GroupDocument> groupReindexReader(@Value("#{stepExecutionContext['fromId']}") Long fromId,
+                                                                  @Value("#{stepExecutionContext['toId']}") Long toId) {
+        return new JdbcPagingItemReaderBuilder<GroupDocument>()
+                .name("groupReindexReader")
+                .dataSource(dataSource)
+                .selectClause(SELECT_CLAUSE)
+                .fromClause("FROM study_groups")
+                .whereClause("WHERE id BETWEEN :fromId AND :toId")
+                .parameterValues(Map.of("fromId", fromId, "toId", toId))
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .pageSize(chunkSize)
+                .rowMapper(groupDocumentRowMapper())
+                .build();
+    }
+
+    /**
+     * 청크 전체를 새 인덱스에 bulk 요청 한 번으로 씁니다. 실패 시 예외로 청크(=Step)가 실패합니다.
+     */
+    @Bean
+    @StepScope
+    public ItemWriter<GroupDocument> groupReindexWriter(@Value("#{jobExecutionContext['targetIndex']}") String targetIndex) {
+        IndexCoordinates coordinates = IndexCoordinates.of(targetIndex);
+        return chunk -> elasticsearchOperations.bulkIndex(toIndexQueries(chunk.getItems()), coordinates);
+    }
+
+    /**
+     * 새 인덱스를 검증한 뒤 별칭을 교체합니다.
+     */
+    @Bean
+    public Step groupReindexSwapStep() {
+        return new StepBuilder("groupReindexSwapStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                            .getJobExecution().getExecutionContext();
+                    String targetIndex = jobContext.getString("targetIndex");
+                    long maxId = jobContext.getLong("maxId");
+
+                    aliasManager.refresh(targetIndex);
+                    long indexed = aliasManager.count(targetIndex);
+                    Long expected = jdbcTemplate.queryForObject(
+                            "SELECT COUNT(*) FROM study_groups WHERE id <= ?", Long.class, maxId);
+
+                    if (expected == null || indexed != expected) {
+                        throw new IllegalStateException("재색인 도큐먼트 수 불일치 index=" + targetIndex
+                                + " indexed=" + indexed + " expected=" + expected);
+                    }
+
+                    List<String> previous = aliasManager.swapAlias(targetIndex);
+                    groupIndexVersion.bump(); // 검색 결과 캐시 무효화
+                    log.info("[GROUP][REINDEX][SWAP] 검증 통과 후 별칭 교체 count={} previous={}", indexed, previous);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    /**
+     * 스냅샷 경계 이후에 생성된 그룹을 새 인덱스에 색인합니다.
+     * 같은 그룹이 비동기 색인 파이프라인으로도 들어올 수 있지만, 같은 ID 덮어쓰기라 결과는 같습니다.
+     */
+    @Bean
+    public Step groupReindexCatchUpStep() {
+        return new StepBuilder("groupReindexCatchUpStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                            .getJobExecution().getExecutionContext();
+                    String targetIndex = jobContext.getString("targetIndex");
+                    long maxId = jobContext.getLong("maxId");
+
+                    List<GroupDocument> created = jdbcTemplate.query(
+                            SELECT_CLAUSE + " FROM study_groups WHERE id > ? ORDER BY id",
+                            groupDocumentRowMapper(), maxId);
+                    if (!created.isEmpty()) {
+                        elasticsearchOperations.bulkIndex(toIndexQueries(created), IndexCoordinates.of(targetIndex));
+                        aliasManager.refresh(targetIndex); // 검색에 반영된 뒤 캐시 무효화 (refresh 전이면 이전 결과가 새 버전으로 캐시됨)
+                        groupIndexVersion.bump();
+                    }
+
+                    log.info("[GROUP][REINDEX][END] 전체 재색인 완료 index={} catchUp={}", targetIndex, created.size());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    /**
+     * 파티션 종료 시 처리량(docs/s)을 로그로 남기고 group.reindex.throughput 메트릭에 기록합니다.
+     */
+    @Bean
+    public StepExecutionListener partitionThroughputListener() {
+        DistributionSummary throughput = DistributionSummary.builder("group.reindex.throughput")
+                .description("그룹 재색인 파티션별 처리량")
+                .baseUnit("docs/s")
+                .register(meterRegistry);
+
+        return new StepExecutionListener() {
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                long written = stepExecution.getWriteCount();
+                long millis = Math.max(1, Duration.between(stepExecution.getStartTime(), LocalDateTime.now()).toMillis());
+                double docsPerSecond = written * 1000.0 / millis;
+
+                throughput.record(docsPerSecond);
+                log.info("[GROUP][REINDEX][PARTITION] {} idRange=[{}, {}] docs={} elapsed={}ms throughput={}docs/s",
+                        stepExecution.getStepName(),
+                        stepExecution.getExecutionContext().getLong("fromId"),
+                        stepExecution.getExecutionContext().getLong("toId"),
+                        written, millis, String.format("%.1f", docsPerSecond));
+                return stepExecution.getExitStatus();
+            }
+        };
+    }
+
+    private RowMapper<GroupDocument> groupDocumentRowMapper() {
+        return (rs, rowNum) -> GroupDocument.from(Group.of(
+                rs.getLong("id"),
+                rs.getString("name"),
+                Category.valueOf(rs.getString("category")),
+                rs.getString("description"),
+                rs.getInt("amount"),
+                rs.getInt("view_count"),
+                rs.getString("personality_tag") == null ? null : PersonalityTag.valueOf(rs.getString("personality_tag")),
+                SkillTag.valueOf(rs.getString("skill_tag")),
+                rs.getObject("start_at", LocalDate.class),
+                rs.getObject("end_at", LocalDate.class),
+                rs.getLong("version")
+        ));
+    }
+
+    private List<IndexQuery> toIndexQueries(List<? extends GroupDocument> documents) {
+        return documents.stream()
+                .map(document -> new IndexQueryBuilder()
+                        .withId(document.getId())
+                        .withObject(document)
+                        .build())
+                .toList();
+    }
+}
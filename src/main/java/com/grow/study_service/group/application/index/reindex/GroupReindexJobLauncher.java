@@ -0,0 +1,74 @@
+package com.grow.study_service.group.application.index.reindex;
+
+import com.grow.study_service.common.exception.ErrorCode;
+import com.grow.study_service.common.exception.service.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹 전체 재색인 Job 을 백그라운드로 실행합니다.
+ * 여러 인스턴스가 동시에 실행하지 않도록 {@link GroupReindexLock} 을 잡은 뒤 실행하며, 락은 Job 이 끝날 때 해제됩니다.
+ * (synchronized 와 실행 중 Job 조회는 같은 인스턴스 안의 중복 실행만 막음)
+ * 재색인은 수 분 이상 걸릴 수 있으므로 호출 스레드를 막지 않고 JobExecution ID 만 바로 돌려줍니다.
+ * 외부에 노출하지 않고 {@link GroupReindexScheduler} 에서만 호출합니다.
+ */
+@Slf4j
+@Component
+public class GroupReindexJobLauncher {
+
+    private final GroupReindexJobConfig jobConfig;
+    private final JobExplorer jobExplorer;
+    private final GroupReindexLock reindexLock;
+    private final TaskExecutorJobLauncher asyncJobLauncher;
+
+    public GroupReindexJobLauncher(GroupReindexJobConfig jobConfig,
+                                   JobExplorer jobExplorer,
+                                   GroupReindexLock reindexLock,
+                                   JobRepository jobRepository) throws Exception {
+        this.jobConfig = jobConfig;
+        this.jobExplorer = jobExplorer;
+        this.reindexLock = reindexLock;
+
+        this.asyncJobLauncher = new TaskExecutorJobLauncher();
+        this.asyncJobLauncher.setJobRepository(jobRepository);
+        this.asyncJobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("group-reindex-"));
+        this.asyncJobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * 재색인 Job 을 시작합니다.
+     *
+     * @return 시작한 JobExecution ID
+     * @throws ServiceException 다른 인스턴스 포함 이미 실행 중인 재색인이 있는 경우 ({@link ErrorCode#GROUP_REINDEX_ALREADY_RUNNING})
+     */
+    public synchronized Long launch() throws Exception {
+        String lockToken = reindexLock.tryAcquire()
+                .orElseThrow(() -> new ServiceException(ErrorCode.GROUP_REINDEX_ALREADY_RUNNING));
+
+        JobExecution execution;
+        try {
+            if (!jobExplorer.findRunningJobExecutions(GroupReindexJobConfig.JOB_NAME).isEmpty()) {
+                throw new ServiceException(ErrorCode.GROUP_REINDEX_ALREADY_RUNNING);
+            }
+
+            JobParameters params = new JobParametersBuilder()
+                    .addString("run.id", String.valueOf(System.currentTimeMillis()))
+                    .addString(GroupReindexJobConfig.LOCK_TOKEN_PARAMETER, lockToken, false)
+                    .toJobParameters();
+            execution = asyncJobLauncher.run(jobConfig.groupReindexJob(), params);
+        } catch (Exception e) { // Job 이 시작되지 않았으면 바로 해제 (시작된 Job 은 종료 시 리스너가 해제)
+            reindexLock.release(lockToken);
+            throw e;
+        }
+
+        log.info("[GROUP][REINDEX][LAUNCH] 전체 재색인 Job 실행 jobExecutionId={}", execution.getId());
+        return execution.getId();
+    }
+}
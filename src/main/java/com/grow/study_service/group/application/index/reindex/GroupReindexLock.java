@@ -0,0 +1,63 @@
+package com.grow.study_service.group.application.index.reindex;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 전체 재색인을 클러스터에서 한 번에 하나만 실행하기 위한 Redis 분산 락.
+ * (SET NX PX 로 잡고, 토큰이 같을 때만 지우는 Lua 스크립트로 해제)
+ *
+ * <p>락은 Job 이 끝날 때 해제합니다. 인스턴스가 Job 도중 종료되어도 lock-ttl 이 지나면 풀리므로,
+ * TTL 은 가장 오래 걸린 재색인보다 넉넉하게 잡습니다.</p>
+ */
+@Slf4j
+@Component
+public class GroupReindexLock {
+
+    private static final String LOCK_KEY = "group:reindex:lock";
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/lock-release.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration lockTtl;
+
+    public GroupReindexLock(RedisTemplate<String, String> redisTemplate,
+                            @Value("${group.reindex.lock-ttl-minutes:360}") long lockTtlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    /**
+     * 락을 잡습니다.
+     *
+     * @return 해제할 때 사용할 토큰 (다른 인스턴스가 이미 보유 중이면 empty)
+     */
+    public Optional<String> tryAcquire() {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTtl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    /**
+     * 자신이 잡은 락만 해제합니다.
+     */
+    public void release(String token) {
+        try {
+            Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+            if (released == null || released == 0L) {
+                log.warn("[GROUP][REINDEX][LOCK] 해제할 락이 없습니다. (TTL 만료 후 다른 인스턴스가 보유했을 수 있음)");
+            }
+        } catch (RuntimeException e) { // TTL 로 결국 풀림
+            log.warn("[GROUP][REINDEX][LOCK] 락 해제 실패 cause={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.grow.study_service.group.application.index.reindex;
+
+import com.grow.study_service.common.exception.service.ServiceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹 전체 재색인을 내부에서만 트리거합니다. (외부 HTTP 경로 없음)
+ *
+ * <ul>
+ *   <li>정기 실행: group.reindex.cron 을 지정한 경우 (기본값 "-" 은 비활성화)</li>
+ *   <li>배포 시 1회 실행: group.reindex.run-on-startup=true 로 띄우면 시작 직후 한 번 실행합니다.
+ *       매핑/분석 필드를 바꾼 배포(예: nameJamo/nameChosung, id keyword 매핑 추가)에서 기존 도큐먼트를 다시 채울 때 사용하고,
+ *       재색인이 끝나면 프로퍼티를 다시 끕니다.</li>
+ * </ul>
+ *
+ * <p>모든 레플리카가 같은 시각에 트리거해도 {@link GroupReindexLock} 을 잡은 인스턴스 하나만 실행하고,
+ * 나머지는 {@link com.grow.study_service.common.exception.ErrorCode#GROUP_REINDEX_ALREADY_RUNNING} 으로 건너뜁니다.
+ * 진행 상황은 [GROUP][REINDEX] 로그와 Spring Batch 메타 테이블(groupReindexJob)에서 확인합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupReindexScheduler {
+
+    private final GroupReindexJobLauncher groupReindexJobLauncher;
+
+    @Value("${group.reindex.run-on-startup:false}")
+    private boolean runOnStartup;
+
+    @Scheduled(cron = "${group.reindex.cron:-}")
+    public void runGroupReindexJob() {
+        launch("예약");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runGroupReindexJobOnStartup() {
+        if (runOnStartup) {
+            launch("시작 시");
+        }
+    }
+
+    private void launch(String trigger) {
+        log.info("[GROUP][REINDEX][START] {} 전체 재색인 시작", trigger);
+
+        try {
+            Long jobExecutionId = groupReindexJobLauncher.launch();
+            log.info("[GROUP][REINDEX][END] {} 전체 재색인 실행 jobExecutionId={}", trigger, jobExecutionId);
+        } catch (ServiceException e) {
+            // 다른 인스턴스 포함 이미 실행 중인 재색인이 있으면 건너뜀
+            log.warn("[GROUP][REINDEX][SKIP] 실행 중인 재색인이 있어 건너뜀 trigger={} cause={}", trigger, e.getMessage());
+        } catch (Exception e) {
+            log.error("[GROUP][REINDEX][FAIL] {} 전체 재색인 실행 실패", trigger, e);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.grow.study_service.group.application.join;
+
+import com.grow.study_service.group.application.dto.JoinRequestCursor;
+import com.grow.study_service.group.application.dto.PendingJoinRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis ZSET 에 저장하는 그룹 가입 요청 저장소. (그룹별 키 하나, score = 요청 시각 ms)
+ *
+ * <p>요청마다 요청 시각을 score 로 가지므로 만료는 요청 단위로 판단합니다.
+ * 추가/삭제/조회 스크립트가 먼저 만료 기준 시각보다 오래된 요청을 ZREMRANGEBYSCORE 로 정리하므로,
+ * 새 요청이 계속 들어오는 그룹에서도 오래된 요청이 남아 있지 않습니다.</p>
+ *
+ * <p>추가(ZADD NX + PEXPIRE), 삭제(EXISTS + ZREM), 페이지 조회(ZRANGEBYSCORE ... LIMIT)를 각각 Lua 스크립트 하나로 실행하므로
+ * 한 번의 왕복으로 끝나고, 확인과 변경 사이에 다른 요청이 끼어들 수 없습니다.
+ * (같은 요청을 동시에 수락/거절해도 한 쪽만 {@link RemoveResult#REMOVED} 를 받음)
+ * 삭제는 원래 요청 시각을 함께 돌려주므로, 수락/거절이 롤백되면 {@link #restore} 로 만료 시점과 목록 순서를 그대로 되돌립니다.</p>
+ *
+ * <p>스크립트는 SHA1 로 EVALSHA 실행하며, 서버에 없으면 RedisTemplate 이 EVAL 로 다시 실행합니다.
+ * 첫 요청의 재시도를 없애기 위해 애플리케이션 시작 시 SCRIPT LOAD 로 미리 올려 둡니다.</p>
+ */
+@Slf4j
+@Component
+public class GroupJoinRequestStore {
+
+    private static final long REQUEST_TTL_MILLIS = Duration.ofDays(7).toMillis(); // 요청별 7일 후에 만료
+    private static final String LEGACY_KEY_PATTERN = "group:*:send-joinRequests"; // 이전 Set 구조의 키
+
+    private static final RedisScript<Long> ADD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/join-request-add.lua"), Long.class);
+    private static final RedisScript<Long> REMOVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/join-request-remove.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PAGE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/join-request-page.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public GroupJoinRequestStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public enum RemoveResult {
+        REMOVED, // 삭제됨
+        MEMBER_NOT_FOUND, // 해당 멤버의 요청이 없음 (요청하지 않았거나 이미 처리됨)
+        KEY_NOT_FOUND // 그룹에 요청이 하나도 없음
+    }
+
+    /**
+     * 삭제 결과와 삭제한 요청의 원래 요청 시각(ms, 삭제되지 않았으면 0).
+     */
+    public record Removal(RemoveResult result, long requestedAt) {
+    }
+
+    /**
+     * 가입 요청을 현재 시각으로 추가합니다.
+     *
+     * @return 새로 추가되었으면 true, 이미 요청이 있으면 false
+     */
+    public boolean add(Long groupId, Long memberId) {
+        return add(groupId, memberId, System.currentTimeMillis());
+    }
+
+    /**
+     * 삭제했던 가입 요청을 원래 요청 시각으로 되돌립니다. (만료 시점과 목록 순서 유지, 그 사이 만료되었으면 되돌리지 않음)
+     *
+     * @return 되돌렸으면 true
+     */
+    public boolean restore(Long groupId, Long memberId, long requestedAt) {
+        return add(groupId, memberId, requestedAt);
+    }
+
+    private boolean add(Long groupId, Long memberId, long requestedAt) {
+        long now = System.currentTimeMillis();
+        Long result = redisTemplate.execute(ADD_SCRIPT, List.of(getRedisKey(groupId)),
+                String.valueOf(memberId), String.valueOf(requestedAt), String.valueOf(now - REQUEST_TTL_MILLIS),
+                String.valueOf(requestedAt + REQUEST_TTL_MILLIS - now));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 가입 요청을 삭제합니다. (수락/거절 처리 권한 선점)
+     */
+    public Removal remove(Long groupId, Long memberId) {
+        Long result = redisTemplate.execute(REMOVE_SCRIPT, List.of(getRedisKey(groupId)),
+                String.valueOf(memberId), String.valueOf(expiredBefore()));
+        if (result == null || result == 0L) {
+            return new Removal(RemoveResult.MEMBER_NOT_FOUND, 0L);
+        }
+        return result > 0L
+                ? new Removal(RemoveResult.REMOVED, result) // 삭제한 요청의 원래 요청 시각
+                : new Removal(RemoveResult.KEY_NOT_FOUND, 0L);
+    }
+
+    /**
+     * 가입 요청을 오래된 순으로 커서 다음부터 최대 limit 건 조회합니다. (키가 없으면 빈 목록)
+     */
+    public List<PendingJoinRequest> page(Long groupId, JoinRequestCursor cursor, int limit) {
+        List<?> result = redisTemplate.execute(PAGE_SCRIPT, List.of(getRedisKey(groupId)),
+                String.valueOf(expiredBefore()),
+                cursor.isFirstPage() ? "" : String.valueOf(cursor.getRequestedAt()),
+                cursor.isFirstPage() ? "" : String.valueOf(cursor.getMemberId()),
+                String.valueOf(limit));
+        if (result == null) {
+            return List.of();
+        }
+
+        // {멤버 ID, 요청 시각, ...} 평평한 목록을 요청 단위로 변환
+        List<PendingJoinRequest> requests = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            requests.add(new PendingJoinRequest(
+                    Long.parseLong(result.get(i).toString()),
+                    (long) Double.parseDouble(result.get(i + 1).toString()))); // WITHSCORES 는 실수 문자열로 반환될 수 있음
+        }
+        return requests;
+    }
+
+    /**
+     * 여러 그룹의 대기 중인 가입 요청 수를 파이프라인 한 번으로 조회합니다. (만료 기준 시각 이후 요청만 ZCOUNT)
+     *
+     * @return 그룹 ID → 대기 중인 요청 수 (Redis 장애 시 빈 맵)
+     */
+    public Map<Long, Long> countPending(List<Long> groupIds) {
+        if (groupIds.isEmpty()) {
+            return Map.of();
+        }
+
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        double min = expiredBefore();
+        try {
+            List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                groupIds.forEach(groupId -> connection.zSetCommands()
+                        .zCount(serializer.serialize(getRedisKey(groupId)), min, Double.POSITIVE_INFINITY));
+                return null; // 파이프라인 콜백은 반드시 null 반환
+            });
+
+            Map<Long, Long> pendingCounts = new HashMap<>(groupIds.size() * 2);
+            for (int i = 0; i < groupIds.size(); i++) {
+                pendingCounts.put(groupIds.get(i), counts.get(i) instanceof Long count ? count : 0L);
+            }
+            return pendingCounts;
+        } catch (RuntimeException e) {
+            log.warn("[GROUP][JOIN][REDIS] 대기 중인 가입 요청 수 조회 실패 groups={} cause={}", groupIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadScripts() {
+        try {
+            for (RedisScript<?> script : List.of(ADD_SCRIPT, REMOVE_SCRIPT, PAGE_SCRIPT)) {
+                byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+                redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(body));
+            }
+            log.info("[GROUP][JOIN][REDIS] 가입 요청 Lua 스크립트 로드 완료");
+        } catch (RuntimeException e) { // 로드 실패 시 첫 실행에서 EVAL 로 올라감
+            log.warn("[GROUP][JOIN][REDIS] 가입 요청 Lua 스크립트 로드 실패 cause={}", e.getMessage());
+        }
+        migrateLegacySets();
+    }
+
+    /**
+     * 이전 Set 구조(group:{groupId}:send-joinRequests)에 남아 있는 요청을 ZSET 으로 옮깁니다.
+     * 요청 시각을 알 수 없으므로 현재 시각으로 넣고, 옮긴 Set 키는 삭제합니다. (키가 없으면 아무것도 하지 않음)
+     */
+    private void migrateLegacySets() {
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PATTERN).count(1000).build();
+        int migrated = 0;
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String legacyKey = keys.next();
+                Long groupId = Long.parseLong(legacyKey.split(":")[1]);
+                Set<String> members = redisTemplate.opsForSet().members(legacyKey);
+                if (members != null) {
+                    members.forEach(memberId -> add(groupId, Long.parseLong(memberId)));
+                }
+                redisTemplate.delete(legacyKey);
+                migrated++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("[GROUP][JOIN][REDIS] 이전 가입 요청 Set 이전 실패 cause={}", e.getMessage());
+        }
+
+        if (migrated > 0) {
+            log.info("[GROUP][JOIN][REDIS] 이전 가입 요청 Set 을 ZSET 으로 이전 완료 groups={}", migrated);
+        }
+    }
+
+    private long expiredBefore() {
+        return System.currentTimeMillis() - REQUEST_TTL_MILLIS;
+    }
+
+    private String getRedisKey(Long groupId) {
+        return "group:" + groupId + ":join-requests";
+    }
+}
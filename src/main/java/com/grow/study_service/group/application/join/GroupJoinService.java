@@ -1,5 +1,7 @@
 package com.grow.study_service.group.application.join;
 
+import com.grow.study_service.group.application.dto.JoinRequestCursor;
+import com.grow.study_service.group.application.dto.PendingJoinRequest;
 import com.grow.study_service.group.presentation.dto.join.JoinConfirmRequest;
 import com.grow.study_service.group.presentation.dto.join.JoinInfoResponse;
 import com.grow.study_service.group.presentation.dto.join.JoinRequest;
@@ -10,7 +12,7 @@ public interface GroupJoinService {
     void joinGroup(Long memberId, Long groupId);
     void sendJoinRequest(JoinRequest request, Long memberId);
     List<JoinInfoResponse> findGroupIdsByLeaderId(Long memberId);
-    List<Long> prepareFindJoinRequest(Long groupId);
+    List<PendingJoinRequest> prepareFindJoinRequest(Long groupId, JoinRequestCursor cursor, int limit);
     void acceptJoinRequest(Long memberId, JoinConfirmRequest request);
     void rejectJoinRequest(Long memberId, JoinConfirmRequest request);
 }
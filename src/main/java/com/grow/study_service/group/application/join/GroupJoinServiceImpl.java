@@ -2,7 +2,10 @@ package com.grow.study_service.group.application.join;
 
 import com.grow.study_service.common.exception.ErrorCode;
 import com.grow.study_service.common.exception.service.ServiceException;
-import com.grow.study_service.common.util.JsonUtils;
+import com.grow.study_service.common.outbox.OutboxPublisher;
+import com.grow.study_service.group.application.dto.JoinRequestCursor;
+import com.grow.study_service.group.application.dto.LeaderGroup;
+import com.grow.study_service.group.application.dto.PendingJoinRequest;
 import com.grow.study_service.group.application.event.GroupJoinRequestSentEvent;
 import com.grow.study_service.group.application.event.MentoringClassPurchaseRequestedEvent;
 import com.grow.study_service.group.application.event.NotificationType;
@@ -19,14 +22,12 @@ import com.grow.study_service.groupmember.domain.repository.GroupMemberRepositor
 import io.micrometer.core.annotation.Counted;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -37,14 +38,15 @@ public class GroupJoinServiceImpl implements GroupJoinService {
     private final GroupQueryRepository groupQueryRepository;
     private final GroupRepository groupRepository;
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final GroupJoinRequestStore joinRequestStore; // Redis 가입 요청 ZSET (score = 요청 시각, Lua 스크립트로 원자적 처리)
+    private final OutboxPublisher outboxPublisher; // Kafka 이벤트는 outbox 에 저장 후 릴레이가 발행
 
     /**
      * 지정된 멤버를 지정된 그룹에 가입시킵니다.
      * <p>
      * 이 메서드는 먼저 해당 멤버가 이미 그룹에 가입되어 있는지 확인합니다. 이미 가입된 경우 {@link ServiceException}을 발생시킵니다.
      * 이후 결제 서비스로 결제 요청을 전송해야 하며 성공 시 그룹 멤버를 저장합니다.
+     * 결제 요청 이벤트는 outbox 에 저장되어 커밋 이후 발행됩니다.
      *
      * @param memberId 가입할 멤버의 ID
      * @param groupId  가입할 그룹의 ID
@@ -73,7 +75,8 @@ public class GroupJoinServiceImpl implements GroupJoinService {
                 group.getAmount()
         );
 
-        kafkaTemplate.send("group.payment-requests", JsonUtils.toJsonString(purchaseEvent));
+        // 트랜잭션과 함께 outbox 에 저장 (롤백 시 발행되지 않음)
+        outboxPublisher.publish("group.payment-requests", String.valueOf(memberId), purchaseEvent);
 
         // 2. 결제 서비스에서 오더를 생성 3. 결제 실행 4. 결제 완료 이벤트 발생 [수행 예정]
         // 멤버 추가는 여기서 하지 않고, 결제 완료 이벤트 리스너에서 처리
@@ -85,7 +88,9 @@ public class GroupJoinServiceImpl implements GroupJoinService {
      * 지정된 멤버가 그룹 가입 요청을 전송합니다.
      * <p>
      * 이 메서드는 먼저 해당 멤버가 이미 그룹에 가입되어 있는지 확인합니다. 이미 가입된 경우 {@link ServiceException}을 발생시킵니다.
-     * 이후 Redis Set을 사용하여 중복 요청을 방지합니다. 이미 요청이 존재하면 예외를 발생시키고, 새로운 요청인 경우 Set에 추가한 후 7일 만료 시간을 설정합니다.
+     * 이후 Redis ZSET(score = 요청 시각)을 사용하여 중복 요청을 방지합니다. 이미 요청이 존재하면 예외를 발생시키고,
+     * 새로운 요청인 경우 현재 시각을 score 로 추가합니다. 요청은 요청 시각으로부터 7일 후에 만료됩니다.
+     * (추가와 만료 설정은 Lua 스크립트 한 번으로 처리)
      * 요청 처리 전후에 로그를 기록합니다.
      *
      * @param request  그룹 가입 요청 객체 (groupId 포함)
@@ -93,7 +98,7 @@ public class GroupJoinServiceImpl implements GroupJoinService {
      * @throws ServiceException 그룹에 이미 가입된 경우 ({@link ErrorCode#GROUP_ALREADY_JOINED}) 또는 이미 가입 요청이 전송된 경우 ({@link ErrorCode#JOIN_REQUEST_ALREADY_SENT})
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional // 알림 이벤트를 outbox 에 저장
     @Counted("join.request")
     public void sendJoinRequest(JoinRequest request, Long memberId) {
         log.info("[GROUP][JOIN][START] memberId={} groupId={} - 그룹 가입 요청 전송 시작", memberId, request.getGroupId());
@@ -103,18 +108,11 @@ public class GroupJoinServiceImpl implements GroupJoinService {
             throw new ServiceException(ErrorCode.GROUP_ALREADY_JOINED);
         }
 
-        // 그룹장에게 요청 전송 (redis 사용, 중복 요청을 거르기 위해서 set 구조 사용) - 같은 키값 사용 가능, value 만 다르면 됨
-        String redisKey = getRedisKey(request.getGroupId()); // 키 생성
-
-        // Sets에 추가하고 추가된 수 확인 (중복 요청 방지) - 값이 추가되면 1, 이미 존재하면 0 반환
-        Long added = redisTemplate.opsForSet().add(redisKey, String.valueOf(memberId));
-
-        if (added == 0L) {
+        // 그룹장에게 요청 전송 (redis ZSET 에 ZADD NX 로 중복 요청을 거름) - 이미 존재하면 false 반환
+        if (!joinRequestStore.add(request.getGroupId(), memberId)) {
             throw new ServiceException(ErrorCode.JOIN_REQUEST_ALREADY_SENT);
         }
-
-        long expireTime = 7L * 24 * 60 * 60; // 7일 후에 초기화
-        redisTemplate.expire(redisKey, expireTime, TimeUnit.SECONDS);
+        removeJoinRequestOnRollback(request.getGroupId(), memberId);
 
         String groupName = groupRepository.findGroupNameById(request.getGroupId());
 
@@ -133,56 +131,52 @@ public class GroupJoinServiceImpl implements GroupJoinService {
     }
 
     /**
-     * 주어진 회원 ID를 기반으로, 해당 회원이 그룹장(리더)인 그룹의 ID 리스트를 조회합니다.
-     * 조회된 그룹 ID를 바탕으로 각 그룹의 이름을 추가하여 JoinInfoResponse 객체 리스트로 변환 후 반환합니다.
-     * 그룹이 존재하지 않거나 이름 조회에 실패할 경우, 빈 리스트를 반환합니다.
+     * 주어진 회원 ID를 기반으로, 해당 회원이 그룹장(리더)인 그룹의 ID, 이름, 대기 중인 가입 요청 수를 조회합니다.
+     * 그룹 ID와 이름은 한 번의 조인 쿼리로, 대기 중인 요청 수는 Redis 파이프라인 한 번으로 가져오므로
+     * 그룹 수와 관계없이 DB 1회 + Redis 1회 왕복으로 끝납니다.
+     * 그룹이 존재하지 않을 경우, 빈 리스트를 반환합니다.
      *
      * @param memberId 조회할 회원의 ID (필수, null 불가)
-     * @return 그룹 ID와 그룹 이름을 포함하는 JoinInfoResponse 리스트 (빈 리스트일 수 있음)
+     * @return 그룹 ID, 그룹 이름, 대기 중인 요청 수를 포함하는 JoinInfoResponse 리스트 (빈 리스트일 수 있음)
      */
     @Override
     public List<JoinInfoResponse> findGroupIdsByLeaderId(Long memberId) {
         log.info("[GROUP][JOIN][START] memberId={} - 그룹 리스트 조회 시작", memberId);
-        return groupQueryRepository.findGroupIdsByLeaderId(memberId).stream()
-                .map(id -> {
-                    String groupName = groupRepository.findGroupNameById(id);
-                    return new JoinInfoResponse(id, groupName); // 그룹 정보 반환
-                })
+        List<LeaderGroup> groups = groupQueryRepository.findLeaderGroupsByMemberId(memberId);
+
+        Map<Long, Long> pendingCounts = joinRequestStore.countPending(groups.stream()
+                .map(LeaderGroup::getGroupId)
+                .toList());
+
+        return groups.stream()
+                .map(group -> new JoinInfoResponse(
+                        group.getGroupId(),
+                        group.getName(),
+                        pendingCounts.getOrDefault(group.getGroupId(), 0L))) // 그룹 정보 반환
                 .toList();
     }
 
     /**
-     * 주어진 그룹 ID를 기반으로 Redis에서 해당 그룹의 가입 요청 멤버 ID 리스트를 조회합니다.
-     * Redis Set 자료 구조를 사용하며, 키가 존재하지 않거나 멤버가 없을 경우 빈 리스트를 반환합니다.
+     * 주어진 그룹 ID를 기반으로 Redis에서 해당 그룹의 가입 요청을 오래된 순으로 한 페이지 조회합니다.
+     * Redis ZSET(score = 요청 시각)을 ZRANGEBYSCORE ... LIMIT 으로 읽으므로 요청이 많아도 limit 건만 가져오며,
+     * 만료(7일)된 요청은 조회 전에 정리됩니다. 키가 없거나 요청이 없으면 빈 리스트를 반환합니다.
      *
      * @param groupId 조회할 그룹의 ID (필수, null 불가)
-     * @return 가입 요청 멤버 ID 리스트 (Long 타입, 빈 리스트일 수 있음)
+     * @param cursor  이전 페이지의 마지막 요청 위치 (첫 페이지면 {@link JoinRequestCursor#first()})
+     * @param limit   최대 조회 건수
+     * @return 가입 요청 리스트 (요청 순서, 빈 리스트일 수 있음)
      */
     @Override
-    public List<Long> prepareFindJoinRequest(Long groupId) {
+    public List<PendingJoinRequest> prepareFindJoinRequest(Long groupId, JoinRequestCursor cursor, int limit) {
         // TODO 그룹장 권한 확인
-        // Redis에서 해당 그룹의 가입 요청 멤버 ID 집합 조회
-        String redisKey = getRedisKey(groupId);
-
-        if (!redisTemplate.hasKey(redisKey)) {
-            return List.of();  // 키가 없으면 빈 리스트 반환
-        }
-
-        Set<String> members = redisTemplate.opsForSet().members(redisKey);
-        if (members == null || members.isEmpty()) {
-            return List.of();  // 멤버가 없으면 빈 리스트 반환
-        }
-
-        // String 멤버 ID를 Long 리스트로 변환하여 반환
-        return members.stream()
-                .map(Long::parseLong)
-                .collect(Collectors.toList());
+        return joinRequestStore.page(groupId, cursor, limit);
     }
 
     /**
      * 그룹 가입 요청을 수락합니다.
      * 그룹 리더 권한을 확인한 후, 대상 멤버가 이미 그룹에 가입되어 있는지 검사합니다.
-     * 이미 가입된 경우 예외를 발생시키고, 그렇지 않으면 새로운 그룹 멤버를 등록합니다.
+     * 이미 가입된 경우 예외를 발생시키고, 그렇지 않으면 Redis 에서 요청을 먼저 삭제(선점)한 뒤 새로운 그룹 멤버를 등록합니다.
+     * 동시에 같은 요청을 수락/거절하면 삭제에 성공한 한 쪽만 처리되며, 등록이 롤백되면 요청을 다시 Redis 에 넣습니다.
      * 등록 후 Kafka 이벤트를 통해 상대방에게 수락 알림을 전송합니다.
      *
      * @param memberId 현재 사용자의 멤버 ID (권한 확인용)
@@ -202,6 +196,10 @@ public class GroupJoinServiceImpl implements GroupJoinService {
             throw new ServiceException(ErrorCode.ALREADY_ACCEPTED_REQUEST);
         }
 
+        // redis 에서 요청 삭제하기 (먼저 삭제한 요청만 등록 - 중복 수락, 승인 후 거절이 되지 않도록)
+        long requestedAt = removeJoinRequestFromRedis(request.getGroupId(), request.getMemberId());
+        restoreJoinRequestOnRollback(request.getGroupId(), request.getMemberId(), requestedAt);
+
         String groupName = groupRepository.findGroupNameById(request.getGroupId());
 
         // groupMember 에 등록
@@ -212,9 +210,6 @@ public class GroupJoinServiceImpl implements GroupJoinService {
                         Role.MEMBER)
         );
 
-        // redis 에서 요청 삭제하기 (승인 후 거절이 되지 않도록)
-        removeJoinRequestFromRedis(request.getGroupId(), request.getMemberId());
-
         // 그룹에 가입 요청을 보낸 유저에게 수락 알림 전송
         publishGroupJoinEvent(createRequestApprovalEvent(request.getMemberId(), groupName));
     }
@@ -237,14 +232,15 @@ public class GroupJoinServiceImpl implements GroupJoinService {
      * @throws ServiceException 그룹 리더가 아닌 경우 (NO_PERMISSION_TO_ACCEPT_REQUEST)
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional // 알림 이벤트를 outbox 에 저장
     public void rejectJoinRequest(Long memberId, JoinConfirmRequest request) {
         verifyGroupLeaderPermission(memberId, request);
 
-        String groupName = groupRepository.findGroupNameById(request.getGroupId());
-
         // redis 에서 요청 삭제하기 (거절 후 승인이 되지 않도록)
-        removeJoinRequestFromRedis(request.getGroupId(), request.getMemberId());
+        long requestedAt = removeJoinRequestFromRedis(request.getGroupId(), request.getMemberId());
+        restoreJoinRequestOnRollback(request.getGroupId(), request.getMemberId(), requestedAt);
+
+        String groupName = groupRepository.findGroupNameById(request.getGroupId());
 
         // 등록하지 않음, 그룹에 가입 요청을 보낸 유저에게 거절 알림 전송
         publishGroupJoinEvent(createRequestRejectionEvent(request.getMemberId(), groupName));
@@ -259,40 +255,57 @@ public class GroupJoinServiceImpl implements GroupJoinService {
     }
 
     private void publishGroupJoinEvent(GroupJoinRequestSentEvent sentEvent) {
-        kafkaTemplate.send(
+        outboxPublisher.publish(
                 "group.join-request.notification",
-                JsonUtils.toJsonString(sentEvent) // 알림 이벤트를 JSON 형태로 변환한 문자열로 전송
+                String.valueOf(sentEvent.getMemberId()), // 수신자 기준으로 순서 보장
+                sentEvent // 알림 이벤트를 JSON 형태로 변환한 문자열로 저장
         );
 
-        log.debug("[KAFKA][SENT] message={}", sentEvent.getMessage());
+        log.debug("[OUTBOX][SAVED] message={}", sentEvent.getMessage());
     }
 
-    private void removeJoinRequestFromRedis(Long groupId, Long memberId) {
-        String key = getRedisKey(groupId);
-        String memberValue = String.valueOf(memberId);
-
-        // 1. 해당 키가 존재하는지 확인 - 그룹에 참여 요청이 도착하지 않았으면 키가 생성되지 않음
-        Boolean keyExists = redisTemplate.hasKey(key);
-        if (!keyExists || keyExists == null) {
-            throw new ServiceException(ErrorCode.JOIN_REQUEST_NOT_FOUND);
-        }
-
-        // 2. 해당 키에 해당하는 멤버가 존재하는지 확인 - 그룹에 해당 멤버가 참여 요청을 보내지 않았으면 키에 값이 없음
-        Boolean memberExists = redisTemplate.opsForSet().isMember(key, memberValue);
-        if (!memberExists || memberExists == null) {
-            throw new ServiceException(ErrorCode.JOIN_REQUEST_MEMBER_NOT_FOUND);
+    // 삭제한 요청의 원래 요청 시각(ms) 반환
+    private long removeJoinRequestFromRedis(Long groupId, Long memberId) {
+        // 확인과 삭제를 한 번에 수행 (수락/거절 중 먼저 도착한 요청만 성공)
+        GroupJoinRequestStore.Removal removal = joinRequestStore.remove(groupId, memberId);
+        switch (removal.result()) {
+            // 그룹에 참여 요청이 도착하지 않았으면 키가 생성되지 않음
+            case KEY_NOT_FOUND -> throw new ServiceException(ErrorCode.JOIN_REQUEST_NOT_FOUND);
+            // 해당 멤버가 참여 요청을 보내지 않았거나 다른 요청이 먼저 처리함
+            case MEMBER_NOT_FOUND -> {
+                log.warn("[REDIS][REMOVE] groupId={} memberId={} - 그룹에 참여 요청이 삭제되지 않았습니다.", groupId, memberId);
+                throw new ServiceException(ErrorCode.JOIN_REQUEST_MEMBER_NOT_FOUND);
+            }
+            case REMOVED -> log.debug("[REDIS][REMOVE] groupId={} memberId={} - 그룹에 참여 요청이 삭제되었습니다.", groupId, memberId);
         }
+        return removal.requestedAt();
+    }
 
-        // 3. redis 에서 삭제 수행
-        Long removedCount = redisTemplate.opsForSet().remove(key, memberValue);
-
-        // 3-1. 삭제 수행이 실패한 경우 - 이미 처리된 대상
-        if (removedCount == 0L || removedCount == null) {
-            log.warn("[REDIS][REMOVE] key={} memberId={} - 그룹에 참여 요청이 삭제되지 않았습니다.", key, memberId);
-            throw new ServiceException(ErrorCode.JOIN_REQUEST_ALREADY_REMOVED);
-        }
+    // 추가한 요청은 트랜잭션이 롤백되면 삭제 (알림이 저장되지 않았으므로 다시 요청할 수 있도록)
+    private void removeJoinRequestOnRollback(Long groupId, Long memberId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    joinRequestStore.remove(groupId, memberId);
+                    log.info("[REDIS][ROLLBACK] groupId={} memberId={} - 롤백으로 참여 요청을 삭제했습니다.", groupId, memberId);
+                }
+            }
+        });
+    }
 
-        log.debug("[REDIS][REMOVE] key={} memberId={} - 그룹에 참여 요청이 삭제되었습니다.", key, memberId);
+    // 삭제한 요청은 트랜잭션이 롤백되면 원래 요청 시각으로 되돌림 (수락/거절이 반영되지 않았으므로 다시 처리할 수 있도록,
+    // 현재 시각으로 다시 넣으면 7일 만료가 연장되고 그룹장의 목록 맨 뒤로 밀림)
+    private void restoreJoinRequestOnRollback(Long groupId, Long memberId, long requestedAt) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    joinRequestStore.restore(groupId, memberId, requestedAt);
+                    log.info("[REDIS][RESTORE] groupId={} memberId={} - 롤백으로 참여 요청을 되돌렸습니다.", groupId, memberId);
+                }
+            }
+        });
     }
 
     private void verifyGroupLeaderPermission(Long memberId, JoinConfirmRequest request) {
@@ -301,8 +314,4 @@ public class GroupJoinServiceImpl implements GroupJoinService {
             throw new ServiceException(ErrorCode.NO_PERMISSION_TO_ACCEPT_REQUEST);
         }
     }
-
-    private String getRedisKey(Long groupId) {
-        return "group:" + groupId + ":send-joinRequests";
-    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.grow.study_service.group.application.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.grow.study_service.group.application.index.GroupIndexVersion;
+import com.grow.study_service.group.domain.enums.Category;
+import com.grow.study_service.group.domain.enums.SkillTag;
+import com.grow.study_service.group.presentation.dto.search.GroupSearchResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 그룹 검색 결과를 인스턴스 메모리에 짧게 캐시합니다. ("자바", "토익" 같은 인기 검색어의 반복 요청을 ES 왕복 없이 응답)
+ *
+ * <ul>
+ *   <li>키: 인덱스 버전 + 정규화한 검색어(앞뒤 공백 제거, 연속 공백 하나로, 소문자) + 필터 + 정렬 + 페이지</li>
+ *   <li>색인 쪽이 {@link GroupIndexVersion} 을 올리면 키가 달라져 이전 결과는 더 이상 조회되지 않고 TTL 로 정리됩니다.</li>
+ *   <li>같은 키의 동시 미스는 한 번만 검색합니다.</li>
+ * </ul>
+ *
+ * <p>커서(search_after) 요청은 point-in-time 에 묶여 있으므로 캐시하지 않습니다.</p>
+ *
+ * <p>메트릭: {@code cache.*{cache=group.search.result}} (히트/미스/제거), {@code group.search.cache.hit.ratio}</p>
+ */
+@Component
+public class GroupSearchResultCache {
+
+    private static final String CACHE_NAME = "group.search.result";
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final GroupIndexVersion groupIndexVersion;
+    private final Cache<Key, GroupSearchResponse> cache;
+
+    public GroupSearchResultCache(GroupIndexVersion groupIndexVersion,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${group.search.cache.max-size:10000}") long maxSize,
+                                  @Value("${group.search.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.groupIndexVersion = groupIndexVersion;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // 색인 반영 지연(refresh)까지 포함한 최대 지연
+                .recordStats()
+                .<Key, GroupSearchResponse>build(), CACHE_NAME);
+
+        Gauge.builder("group.search.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("그룹 검색 결과 캐시 히트율 (누적)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 검색 결과를 반환하고, 없으면 search 를 실행해 저장한 뒤 반환합니다.
+     */
+    public GroupSearchResponse get(String query, Category category, SkillTag skillTag,
+                                   String sortBy, String sortOrder, int page, int size,
+                                   Supplier<GroupSearchResponse> search) {
+        Key key = new Key(groupIndexVersion.current(), normalize(query), category, skillTag,
+                sortBy.toLowerCase(Locale.ROOT), sortOrder.toLowerCase(Locale.ROOT), page, size);
+        return cache.get(key, ignored -> search.get());
+    }
+
+    private static String normalize(String query) {
+        return WHITESPACES.matcher(query.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(long indexVersion, String query, Category category, SkillTag skillTag,
+                       String sortBy, String sortOrder, int page, int size) {
+    }
+}
@@ -1,12 +1,14 @@
 package com.grow.study_service.group.application.search;
 
-import com.grow.study_service.group.domain.document.GroupDocument;
 import com.grow.study_service.group.domain.enums.Category;
 import com.grow.study_service.group.domain.enums.SkillTag;
+import com.grow.study_service.group.presentation.dto.search.GroupSearchResponse;
+import com.grow.study_service.group.presentation.dto.search.GroupSuggestSearchResponse;
 
 import java.util.List;
 
 public interface GroupSearchService {
     List<String> getGroupSuggestions(String query);
-    List<GroupDocument> searchGroup(String query, Category category, SkillTag skillTag, String sortBy, String sortOrder, int page, int size);
+    GroupSearchResponse searchGroup(String query, Category category, SkillTag skillTag, String sortBy, String sortOrder, int page, int size, String cursor);
+    GroupSuggestSearchResponse suggestAndSearch(String query, Category category, SkillTag skillTag, String sortBy, String sortOrder, int size);
 }
\ No newline at end of file
@@ -1,36 +1,90 @@
 package com.grow.study_service.group.application.search;
 
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.query_dsl.*;
 import com.grow.study_service.common.exception.ErrorCode;
 import com.grow.study_service.common.exception.service.ServiceException;
+import com.grow.study_service.common.util.HangulUtils;
+import com.grow.study_service.group.application.dto.GroupSearchCursor;
+import com.grow.study_service.group.application.index.reindex.GroupIndexAliasManager;
 import com.grow.study_service.group.domain.document.GroupDocument;
 import com.grow.study_service.group.domain.enums.Category;
 import com.grow.study_service.group.domain.enums.SkillTag;
+import com.grow.study_service.group.presentation.dto.search.GroupSearchResponse;
+import com.grow.study_service.group.presentation.dto.search.GroupSearchResult;
+import com.grow.study_service.group.presentation.dto.search.GroupSuggestSearchResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
 import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
 import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
 import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
 import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GroupSearchServiceImpl implements GroupSearchService {
 
+    private static final String TIEBREAKER_FIELD = "id"; // 정렬 값이 같은 도큐먼트의 순서를 고정하는 보조 정렬 키
+    private static final List<String> SEARCH_FIELDS = List.of("name^3", "description^1", "category^2", "skillTag^2");
+    private static final String STAGE_EXACT = "exact";
+    private static final String STAGE_FUZZY = "fuzzy";
+    private static final String CATEGORY_FACET_FIELD = "category.raw";
+    private static final String SKILL_TAG_FACET_FIELD = "skillTag.raw";
+    private static final String CATEGORY_FACET = "category_facet";
+    private static final String SKILL_TAG_FACET = "skillTag_facet";
+    private static final String FACET_TERMS = "values";
+    private static final String SEARCH_CONTEXT_MISSING = "search_context_missing_exception"; // 만료된 point-in-time
+    // 검색 목록에 필요한 필드만 _source 로 받음 (description, 자동 완성용 필드 등 큰 필드 제외)
+    private static final SourceFilter RESULT_SOURCE_FILTER = new FetchSourceFilterBuilder()
+            .withIncludes("id", "name", "category", "skillTag", "startAt", "viewCount")
+            .build();
+    private static final SourceFilter SUGGEST_SOURCE_FILTER = new FetchSourceFilterBuilder()
+            .withIncludes("name")
+            .build();
+
     // 엘라스틱 서치로 쿼리를 전송하는 용도
     private final ElasticsearchOperations elasticsearchOperations;
+    private final MeterRegistry meterRegistry;
+    private final GroupSearchResultCache searchResultCache;
+
+    @Value("${group.search.fuzzy-fallback-threshold:10}") // 오타 허용 없는 검색 결과가 이보다 적으면 fuzzy 검색
+    private long fuzzyFallbackThreshold;
+
+    @Value("${group.search.max-window:1000}") // from/size 로 조회할 수 있는 최대 범위 (page * size)
+    private int maxWindow;
+
+    @Value("${group.search.pit-keep-alive-seconds:60}") // 다음 커서 요청까지 point-in-time 을 유지할 시간
+    private long pitKeepAliveSeconds;
 
     /**
      * 검색어를 입력받아 그룹 검색을 수행합니다. (엘라스틱 서치 이용)
@@ -40,6 +94,13 @@ public class GroupSearchServiceImpl implements GroupSearchService {
      */
     @Override
     public List<String> getGroupSuggestions(String query) {
+        // 쿼리를 보내서 검색어 리스트를 가져옴
+        SearchHits<GroupDocument> searchHits = elasticsearchOperations.search(suggestQuery(query), GroupDocument.class);// 쿼리와 반환 타입 넣기
+        return toSuggestions(searchHits);
+    }
+
+    // 자동 완성 쿼리 작성
+    private NativeQuery suggestQuery(String query) {
         // 쿼리에 담긴 글자와 일치하는 자동 추천 검색어를 가져 옴
         Query multiMatchQuery = MultiMatchQuery.of(m -> m
                 .query(query)
@@ -51,16 +112,39 @@ public class GroupSearchServiceImpl implements GroupSearchService {
                 )
         )._toQuery();
 
+        // 자모 분해 필드 접두사 일치 (입력 중인 글자 포함, 예: "잡" → 자바)
+        List<Query> suggestQueries = new ArrayList<>();
+        suggestQueries.add(multiMatchQuery);
+        suggestQueries.add(MatchQuery.of(m -> m
+                .field("nameJamo")
+                .query(HangulUtils.toJamo(query).toLowerCase(Locale.ROOT))
+                .operator(Operator.And)
+        )._toQuery());
+
+        // 초성만 입력한 경우 초성 필드 접두사 일치 (예: "ㅈㅂ" → 자바 스터디)
+        if (HangulUtils.isChosungOnly(query)) {
+            suggestQueries.add(MatchQuery.of(m -> m
+                    .field("nameChosung")
+                    .query(query)
+                    .operator(Operator.And)
+            )._toQuery());
+        }
+
+        Query suggestQuery = BoolQuery.of(b -> b
+                .should(suggestQueries)
+                .minimumShouldMatch("1")
+        )._toQuery();
+
         // 내가 작성한 쿼리를 넣을 수 있는 껍데기 (여기에 넣어야 엘라스틱 서치에 전송이 가능)
-        NativeQuery nativeQuery = NativeQuery.builder()
-                .withQuery(multiMatchQuery)
+        return NativeQuery.builder()
+                .withQuery(suggestQuery)
                 .withPageable(PageRequest.of(0, 5)) // 다섯 개까지만 추천 검색어로 등장할 수 있도록
+                .withSourceFilter(SUGGEST_SOURCE_FILTER) // 그룹 이름만 필요
                 .build();
+    }
 
-        // 쿼리를 보내서 검색어 리스트를 가져옴
-        SearchHits<GroupDocument> searchHits = elasticsearchOperations.search(nativeQuery, GroupDocument.class);// 쿼리와 반환 타입 넣기
-
-        // 검색어 리스트에서 가져온 값을 리스트로 변환하여 반환
+    // 검색어 리스트에서 가져온 값을 리스트로 변환하여 반환
+    private List<String> toSuggestions(SearchHits<GroupDocument> searchHits) {
         return searchHits.getSearchHits().stream()
                 .map(hit -> {
                     GroupDocument groupDocument = hit.getContent();
@@ -77,46 +161,180 @@ public class GroupSearchServiceImpl implements GroupSearchService {
      * @param skillTag - 스킬 태그 (선택)
      * @param sortBy   - 정렬 기준 (선택)
      * @param sortOrder- 정렬 방향 (선택)
-     * @param page     - 페이지 번호 (필수 값 있음)
+     * @param page     - 페이지 번호 (필수 값 있음, cursor 가 있으면 무시)
      * @param size     - 페이지 크기 (필수 값 있음)
+     * @param cursor   - 이전 응답의 nextCursor (선택, 있으면 search_after 로 이어서 조회)
+     * @return 검색 결과와 다음 결과를 이어볼 커서
+     *
+     * <p>앞쪽 페이지(page * size 가 max-window 이하)는 from/size 로 조회하고,
+     * 그 이후는 nextCursor 를 받아 point-in-time + search_after 로 조회합니다.
+     * search_after 는 직전 결과의 정렬 값 다음부터 size 건만 읽으므로 페이지가 깊어져도 검색 비용이 늘지 않습니다.
+     * 정렬 값이 같은 도큐먼트의 순서를 고정하기 위해 항상 id 를 마지막 정렬 키로 둡니다.</p>
+     *
+     * <p>카테고리, 스킬 태그 필터는 post_filter 로 적용하고, 같은 요청에서 패싯별 개수를 집계합니다.
+     * 카테고리 개수는 스킬 태그 필터만, 스킬 태그 개수는 카테고리 필터만 적용한 결과라서
+     * 선택한 필터를 바꿨을 때의 결과 수를 추가 검색 없이 보여줄 수 있습니다.</p>
+     *
+     * <p>같은 검색어/필터/정렬/페이지 요청은 인덱스가 바뀌기 전까지 {@link GroupSearchResultCache} 에서 응답합니다.</p>
+     *
+     * <p>fuzzy 확장은 검색 CPU 비용이 크므로 먼저 오타 허용 없이 검색하고,
+     * 전체 결과가 fuzzy-fallback-threshold 건보다 적을 때만 fuzziness AUTO 로 다시 검색합니다.</p>
     */
     @Override
-    public List<GroupDocument> searchGroup(String query, Category category,
+    public GroupSearchResponse searchGroup(String query, Category category,
                                            SkillTag skillTag, String sortBy,
-                                           String sortOrder, int page, int size) {
+                                           String sortOrder, int page, int size, String cursor) {
+
+        validateSize(size);
+
+        // 페이지 번호 조회는 결과 캐시 사용 (커서 조회는 point-in-time 에 묶여 있어 캐시하지 않음)
+        if (cursor == null || cursor.isBlank()) {
+            validatePageWindow(page, size);
+            return searchResultCache.get(query, category, skillTag, sortBy, sortOrder, page, size,
+                    () -> searchFromIndex(query, category, skillTag, sortBy, sortOrder, page, size, null));
+        }
+        return searchFromIndex(query, category, skillTag, sortBy, sortOrder, page, size, cursor);
+    }
+
+    // 엘라스틱 서치 검색 (캐시 미스 또는 커서 조회)
+    private GroupSearchResponse searchFromIndex(String query, Category category,
+                                                SkillTag skillTag, String sortBy,
+                                                String sortOrder, int page, int size, String cursor) {
 
-        log.info("[GROUP][SEARCH][START] 검색어={}, 카테고리={}, 스킬 태그={}, 정렬 기준={}, 정렬 방향={}, 페이지={}, 크기={}",
-                query, category, skillTag, sortBy, sortOrder, page, size);
+        log.info("[GROUP][SEARCH][START] 검색어={}, 카테고리={}, 스킬 태그={}, 정렬 기준={}, 정렬 방향={}, 페이지={}, 크기={}, 커서 여부={}",
+                query, category, skillTag, sortBy, sortOrder, page, size, cursor != null);
 
         String sortField = mapSortByToField(sortBy);  // sortBy를 실제 필드명으로 매핑
         Direction direction = sortOrder.equals("desc") ? Direction.DESC : Direction.ASC; // 정렬 방향 지정
+        String sortKey = sortField + ":" + direction.name();
 
-        // 각 단일 쿼리를 모두 따로 작성 -> 이후 bool 쿼리 안에 전부 넣기
-        // multi_match 쿼리
-        Query multiMatchQuery = MultiMatchQuery.of(m -> m
-                .query(query)
-                .fields("name^3", "description^1", "category^2", "skillTag^2" )
-                .fuzziness("AUTO")
-        )._toQuery();
+        NativeQueryBuilder queryBuilder = searchQueryBuilder(category, skillTag, sortField, direction);
+        Query exactQuery = stageQuery(query, false);
+        Query fuzzyQuery = stageQuery(query, true);
 
-        // term filter 쿼리 : 스킬 태그가 정확히 일치하는 것만 필터링
-        List<Query> filters = new ArrayList<>();
+        PointInTime pointInTime = null;
+        GroupSearchCursor searchCursor = null;
+        if (cursor == null || cursor.isBlank()) {
+            // 앞쪽 페이지: from/size (범위는 searchGroup 에서 검증)
+            queryBuilder.withPageable(PageRequest.of(page - 1, size));
 
-        if (skillTag != null) {
-            Query skillTagQuery = TermQuery.of(t -> t
-                    .field("skillTag.raw")
-                    .value(skillTag.getDescription())
-            )._toQuery();
-            filters.add(skillTagQuery);
+            withFacets(queryBuilder, category, skillTag); // 커서 이어보기는 첫 응답의 개수를 그대로 사용하므로 생략
+        } else {
+            // 깊은 페이지: point-in-time 스냅샷 위에서 search_after
+            searchCursor = GroupSearchCursor.decode(sortKey, cursor);
+            String pointInTimeId = searchCursor.getPointInTimeId() != null
+                    ? searchCursor.getPointInTimeId()
+                    : elasticsearchOperations.openPointInTime(IndexCoordinates.of(GroupIndexAliasManager.ALIAS), pitKeepAlive());
+
+            pointInTime = new PointInTime(pointInTimeId, pitKeepAlive());
+            queryBuilder.withPointInTime(pointInTime)
+                    .withSearchAfter(searchCursor.getSearchAfter())
+                    .withPageable(PageRequest.of(0, size));
         }
 
-        if (category != null) {
-            Query categoryQuery = TermQuery.of(t -> t
-                    .field("category.raw")
-                    .value(category.getDescription())
-            )._toQuery();
-            filters.add(categoryQuery);
+        // 단계별 검색: 오타 허용 없는 검색 결과가 적을 때만 fuzzy 검색 (커서 조회는 첫 페이지에서 정한 단계를 유지)
+        boolean fuzzy = searchCursor != null && searchCursor.isFuzzy();
+        SearchHits<GroupDocument> searchHits = searchStage(fuzzy ? STAGE_FUZZY : STAGE_EXACT,
+                queryBuilder.withQuery(fuzzy ? fuzzyQuery : exactQuery).build(), pointInTime);
+
+        if (!fuzzy && searchCursor == null && searchHits.getTotalHits() < fuzzyFallbackThreshold) {
+            fuzzy = true;
+            searchHits = searchStage(STAGE_FUZZY, queryBuilder.withQuery(fuzzyQuery).build(), pointInTime);
         }
+        answeredCounter(fuzzy ? STAGE_FUZZY : STAGE_EXACT).increment();
+
+        log.info("[GROUP][SEARCH][END] 검색 완료, 검색 결과 개수={}, 응답 단계={}", searchHits.getTotalHits(), fuzzy ? STAGE_FUZZY : STAGE_EXACT);
+
+        return toResponse(searchHits, sortKey, pointInTime, size, fuzzy);
+    }
+
+    /**
+     * Elasticsearch 자동 완성과 첫 페이지 검색을 함께 조회합니다.
+     * 메모리 자동 완성 인덱스가 적재되기 전에만 사용합니다. (적재 후에는 {@code GroupSuggestSearchFacade} 가 메모리 인덱스 + {@link #searchGroup} 으로 처리)
+     *
+     * <p>첫 페이지 검색은 {@link #searchGroup} 의 1페이지와 같은 캐시 키/쿼리(오타 허용 없음 + 패싯)를 사용합니다.
+     * 캐시에 있으면 자동 완성 쿼리만 보내고, 없으면 두 쿼리를 한 번의 _msearch 로 보낸 뒤 검색 결과를 캐시에 저장합니다.
+     * 결과가 fuzzy-fallback-threshold 건보다 적을 때만 fuzzy 검색을 한 번 더 보냅니다.</p>
+     */
+    @Override
+    public GroupSuggestSearchResponse suggestAndSearch(String query, Category category, SkillTag skillTag,
+                                                       String sortBy, String sortOrder, int size) {
+
+        validateSize(size);
+        validatePageWindow(1, size);
+
+        AtomicReference<List<String>> msearchSuggestions = new AtomicReference<>();
+        GroupSearchResponse search = searchResultCache.get(query, category, skillTag, sortBy, sortOrder, 1, size,
+                () -> multiSearchFromIndex(query, category, skillTag, sortBy, sortOrder, size, msearchSuggestions));
+
+        // 캐시 히트면 _msearch 를 보내지 않았으므로 자동 완성만 조회
+        List<String> suggestions = msearchSuggestions.get() != null
+                ? msearchSuggestions.get()
+                : getGroupSuggestions(query);
+
+        return new GroupSuggestSearchResponse(suggestions, search);
+    }
+
+    // 자동 완성 + 첫 페이지 검색 _msearch (캐시 미스), 자동 완성 결과는 suggestionsHolder 로 전달
+    private GroupSearchResponse multiSearchFromIndex(String query, Category category, SkillTag skillTag,
+                                                     String sortBy, String sortOrder, int size,
+                                                     AtomicReference<List<String>> suggestionsHolder) {
+
+        log.info("[GROUP][SEARCH][MSEARCH][START] 검색어={}, 카테고리={}, 스킬 태그={}, 정렬 기준={}, 정렬 방향={}, 크기={}",
+                query, category, skillTag, sortBy, sortOrder, size);
+
+        String sortField = mapSortByToField(sortBy);
+        Direction direction = sortOrder.equals("desc") ? Direction.DESC : Direction.ASC;
+        String sortKey = sortField + ":" + direction.name();
+
+        NativeQueryBuilder queryBuilder = searchQueryBuilder(category, skillTag, sortField, direction)
+                .withPageable(PageRequest.of(0, size));
+        withFacets(queryBuilder, category, skillTag);
+
+        List<NativeQuery> queries = List.of(suggestQuery(query), queryBuilder.withQuery(stageQuery(query, false)).build());
+        List<SearchHits<GroupDocument>> results = Timer.builder("group.search.msearch.latency")
+                .description("자동 완성 + 검색 _msearch 응답 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(() -> elasticsearchOperations.multiSearch(queries, GroupDocument.class));
+
+        List<String> suggestions = toSuggestions(results.get(0));
+        SearchHits<GroupDocument> searchHits = results.get(1);
+
+        boolean fuzzy = false;
+        if (searchHits.getTotalHits() < fuzzyFallbackThreshold) {
+            fuzzy = true;
+            searchHits = searchStage(STAGE_FUZZY, queryBuilder.withQuery(stageQuery(query, true)).build(), null);
+        }
+        answeredCounter(fuzzy ? STAGE_FUZZY : STAGE_EXACT).increment();
+
+        log.info("[GROUP][SEARCH][MSEARCH][END] 검색 완료, 추천 검색어 개수={}, 검색 결과 개수={}, 응답 단계={}",
+                suggestions.size(), searchHits.getTotalHits(), fuzzy ? STAGE_FUZZY : STAGE_EXACT);
+
+        suggestionsHolder.set(suggestions);
+        return toResponse(searchHits, sortKey, null, size, fuzzy);
+    }
+
+    private void validateSize(int size) {
+        if (size < 1) {
+            throw new ServiceException(ErrorCode.INVALID_SEARCH_SIZE);
+        }
+    }
+
+    // 페이지 번호 조회는 maxWindow 까지만 허용 (깊은 페이지는 from 만큼 건너뛰는 비용이 커지므로 커서로만 조회)
+    private void validatePageWindow(int page, int size) {
+        if ((long) page * size > maxWindow) {
+            throw new ServiceException(ErrorCode.SEARCH_PAGE_TOO_DEEP);
+        }
+    }
+
+    // 검색 단계별 본 쿼리 (1단계: 오타 허용 없음, 2단계: fuzziness AUTO)
+    private Query stageQuery(String query, boolean fuzzy) {
+        // multi_match 쿼리
+        Query matchQuery = MultiMatchQuery.of(m -> {
+            m.query(query).fields(SEARCH_FIELDS);
+            return fuzzy ? m.fuzziness("AUTO") : m;
+        })._toQuery();
 
         // should 쿼리: 해당 조건을 만족하면 가산점, 만족하지 않아도 괜찮음
         Query viewCountShould = NumberRangeQuery.of(r -> r
@@ -125,12 +343,14 @@ public class GroupSearchServiceImpl implements GroupSearchService {
         )._toRangeQuery()._toQuery();
 
         // 이 쿼리를 모두 담을 bool 쿼리 생성
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(multiMatchQuery)
-                .filter(filters)
+        return BoolQuery.of(b -> b
+                .must(matchQuery)
                 .should(viewCountShould))
                 ._toQuery();
+    }
 
+    // 정렬, _source 필터, 하이라이트, post_filter 를 담은 검색 쿼리 껍데기
+    private NativeQueryBuilder searchQueryBuilder(Category category, SkillTag skillTag, String sortField, Direction direction) {
         // 페이지에 보여줄 때 하이라이팅 하기 위한 설정 추가
         HighlightParameters highlightParams = HighlightParameters.builder()
                 .withPreTags("<b>")
@@ -141,30 +361,167 @@ public class GroupSearchServiceImpl implements GroupSearchService {
 
         HighlightQuery highlightQuery = new HighlightQuery(highlight, GroupDocument.class);
 
-        // 네이티브 쿼리 껍데기 작성
-        NativeQuery nativeQuery = NativeQuery.builder()
-                .withQuery(boolQuery)
-                // .withPageable(PageRequest.of(page - 1, size, Sort.by(direction, sortField))) // 페이지네이션 + 정렬
-                .withSort(Sort.by(direction, sortField))
-                .withHighlightQuery(highlightQuery)
-                .build();
+        // 네이티브 쿼리 껍데기 작성 (정렬 값이 같을 때를 위해 id 를 보조 정렬 키로 추가)
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withSort(Sort.by(direction, sortField).and(Sort.by(Direction.ASC, TIEBREAKER_FIELD)))
+                .withSourceFilter(RESULT_SOURCE_FILTER)
+                .withHighlightQuery(highlightQuery);
 
-        log.info("Generated Query: {}", Objects.requireNonNull(nativeQuery.getQuery()));
+        // term filter 쿼리 : 스킬 태그, 카테고리가 정확히 일치하는 것만 필터링
+        // 패싯 개수가 자기 필터의 영향을 받지 않도록 본 쿼리가 아닌 post_filter 로 적용
+        List<Query> filters = new ArrayList<>();
+        if (skillTag != null) {
+            filters.add(skillTagFilter(skillTag));
+        }
+        if (category != null) {
+            filters.add(categoryFilter(category));
+        }
 
-        SearchHits<GroupDocument> searchHits = elasticsearchOperations.search(nativeQuery, GroupDocument.class);
+        if (!filters.isEmpty()) {
+            queryBuilder.withFilter(BoolQuery.of(b -> b.filter(filters))._toQuery()); // post_filter
+        }
+        return queryBuilder;
+    }
 
-        log.info("[GROUP][SEARCH][END] 검색 완료, 검색 결과 개수={}", searchHits.getTotalHits());
+    // 패싯 개수: 각 패싯은 다른 패싯의 필터만 적용
+    private void withFacets(NativeQueryBuilder queryBuilder, Category category, SkillTag skillTag) {
+        Query skillTagFilter = skillTag == null ? null : skillTagFilter(skillTag);
+        Query categoryFilter = category == null ? null : categoryFilter(category);
 
-        return searchHits.getSearchHits().stream()
+        queryBuilder.withAggregation(CATEGORY_FACET, facetAggregation(CATEGORY_FACET_FIELD, Category.values().length, skillTagFilter))
+                .withAggregation(SKILL_TAG_FACET, facetAggregation(SKILL_TAG_FACET_FIELD, SkillTag.values().length, categoryFilter));
+    }
+
+    private Query skillTagFilter(SkillTag skillTag) {
+        return TermQuery.of(t -> t
+                .field(SKILL_TAG_FACET_FIELD)
+                .value(skillTag.getDescription())
+        )._toQuery();
+    }
+
+    private Query categoryFilter(Category category) {
+        return TermQuery.of(t -> t
+                .field(CATEGORY_FACET_FIELD)
+                .value(category.getDescription())
+        )._toQuery();
+    }
+
+    // filter 집계 안의 terms 집계 (다른 패싯의 필터만 적용한 문서 집합에서 값별 개수)
+    private Aggregation facetAggregation(String field, int size, Query otherFacetFilter) {
+        Query filter = otherFacetFilter != null ? otherFacetFilter : MatchAllQuery.of(m -> m)._toQuery();
+        return Aggregation.of(a -> a
+                .filter(filter)
+                .aggregations(FACET_TERMS, t -> t.terms(terms -> terms.field(field).size(size))));
+    }
+
+    // 패싯 집계 결과를 값 → 개수 맵으로 변환 (개수 내림차순, 집계하지 않았으면 빈 맵)
+    private Map<String, Long> facetCounts(SearchHits<GroupDocument> searchHits, String facetName) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (!(searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations)) {
+            return counts;
+        }
+
+        ElasticsearchAggregation facet = aggregations.get(facetName);
+        if (facet == null) {
+            return counts;
+        }
+
+        facet.aggregation().getAggregate().filter().aggregations().get(FACET_TERMS).sterms().buckets().array()
+                .forEach(bucket -> counts.put(bucket.key().stringValue(), bucket.docCount()));
+        return counts;
+    }
+
+    // 단계별 검색 시간을 group.search.stage.latency{stage} 로 기록
+    private SearchHits<GroupDocument> searchStage(String stage, NativeQuery nativeQuery, PointInTime pointInTime) {
+        log.info("Generated Query: stage={} {}", stage, Objects.requireNonNull(nativeQuery.getQuery()));
+
+        Timer timer = Timer.builder("group.search.stage.latency")
+                .tag("stage", stage)
+                .description("그룹 검색 단계별 응답 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        return timer.record(() -> search(nativeQuery, pointInTime));
+    }
+
+    private Counter answeredCounter(String stage) {
+        return Counter.builder("group.search.answered")
+                .tag("stage", stage)
+                .description("검색 결과를 응답한 단계별 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 커서 조회는 point-in-time 이 만료/삭제된 경우 잘못된 커서로 응답 (첫 페이지부터 다시 조회)
+    private SearchHits<GroupDocument> search(NativeQuery nativeQuery, PointInTime pointInTime) {
+        if (pointInTime == null) {
+            return elasticsearchOperations.search(nativeQuery, GroupDocument.class);
+        }
+
+        try {
+            return elasticsearchOperations.search(nativeQuery, GroupDocument.class);
+        } catch (RuntimeException e) {
+            if (!isPointInTimeGone(e)) { // ES 장애/타임아웃은 그대로 전파 (클라이언트 잘못이 아니므로 400 으로 바꾸지 않음)
+                throw e;
+            }
+            log.warn("[GROUP][SEARCH] point-in-time 만료 cause={}", e.getMessage());
+            throw new ServiceException(e, ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    // point-in-time 이 만료/삭제된 경우만 true (404, search_context_missing_exception)
+    private boolean isPointInTimeGone(RuntimeException e) {
+        if (e instanceof UncategorizedElasticsearchException uncategorized
+                && Integer.valueOf(404).equals(uncategorized.getStatusCode())) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ElasticsearchException elasticsearchException && elasticsearchException.status() == 404) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().contains(SEARCH_CONTEXT_MISSING)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 마지막 결과의 정렬 값으로 다음 커서를 만듭니다.
+     * 결과가 size 보다 적으면 마지막 페이지이므로 커서를 만들지 않고, 열려 있던 point-in-time 을 바로 닫습니다.
+     */
+    private GroupSearchResponse toResponse(SearchHits<GroupDocument> searchHits, String sortKey,
+                                           PointInTime pointInTime, int size, boolean fuzzy) {
+        // 하이라이트는 도큐먼트를 수정하지 않고 별도 필드로 전달
+        List<GroupSearchResult> groups = searchHits.getSearchHits().stream()
                 .map(hit -> {
-                    GroupDocument groupDocument = hit.getContent();
-                    if (!hit.getHighlightField("name").isEmpty()) {
-                        String highlightedName = hit.getHighlightField("name").getFirst();
-                        groupDocument.updateName(highlightedName);
-                    }
-                    return groupDocument;
+                    List<String> highlights = hit.getHighlightField("name");
+                    return GroupSearchResult.of(hit.getContent(), highlights.isEmpty() ? null : highlights.getFirst());
                 })
                 .toList();
+
+        // point-in-time ID 는 검색할 때마다 바뀔 수 있으므로 응답에 담긴 최신 값을 사용
+        String pointInTimeId = pointInTime == null ? null
+                : Objects.requireNonNullElse(searchHits.getPointInTimeId(), pointInTime.id());
+
+        Map<String, Long> categoryCounts = facetCounts(searchHits, CATEGORY_FACET);
+        Map<String, Long> skillTagCounts = facetCounts(searchHits, SKILL_TAG_FACET);
+
+        boolean hasNext = searchHits.getSearchHits().size() == size;
+        if (!hasNext) {
+            if (pointInTimeId != null) {
+                elasticsearchOperations.closePointInTime(pointInTimeId);
+            }
+            return new GroupSearchResponse(groups, searchHits.getTotalHits(), null, false,
+                    categoryCounts, skillTagCounts);
+        }
+
+        List<Object> lastSortValues = searchHits.getSearchHits().getLast().getSortValues();
+        String nextCursor = GroupSearchCursor.of(sortKey, pointInTimeId, lastSortValues, fuzzy).encode();
+        return new GroupSearchResponse(groups, searchHits.getTotalHits(), nextCursor, true,
+                categoryCounts, skillTagCounts);
+    }
+
+    private Duration pitKeepAlive() {
+        return Duration.ofSeconds(pitKeepAliveSeconds);
     }
 
     /**
@@ -0,0 +1,22 @@
+package com.grow.study_service.group.application.search.suggest;
+
+import com.grow.study_service.group.application.event.GroupIndexRequestedEvent;
+import com.grow.study_service.group.domain.document.GroupDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class GroupNameSuggestEventListener {
+
+    private final GroupNameSuggester groupNameSuggester;
+
+    // 커밋된 그룹 생성/수정만 자동 완성 인덱스에 반영 (조회수 변화는 GroupNameSuggester#refreshScores 가 주기적으로 반영)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGroupIndexRequested(GroupIndexRequestedEvent event) {
+        GroupDocument document = event.getDocument();
+        groupNameSuggester.upsert(Long.parseLong(document.getId()), document.getName(), document.getViewCount());
+    }
+}
@@ -0,0 +1,406 @@
+package com.grow.study_service.group.application.search.suggest;
+
+import com.grow.study_service.common.util.HangulUtils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 그룹 이름 자동 완성용 메모리 접두사 인덱스. (경로 압축 trie = radix tree)
+ *
+ * <ul>
+ *   <li>그룹 이름 전체와 이름 안의 각 단어 시작 위치를 키로 넣어, 단어 단위 접두사 검색을 지원합니다.
+ *       (예: "자바 스프링 스터디" → "자바 스프링 스터디", "스프링 스터디", "스터디")</li>
+ *   <li>키는 자모로 분해해 넣고 검색어도 같은 규칙으로 분해하므로, 입력 중인 글자("잡" → 자바)도 일치합니다.
+ *       초성 키("ㅈㅂ ㅅㅌㄷ", "ㅈㅂㅅㅌㄷ")도 함께 넣어 초성 검색을 지원합니다.</li>
+ *   <li>노드마다 하위 트리의 상위 K개(조회수 높은 순)를 미리 계산해 두므로,
+ *       조회는 접두사 길이만큼 내려간 뒤 저장된 결과를 그대로 반환합니다. (전체 이름 수와 무관)</li>
+ *   <li>추가는 키 경로의 노드마다 새 항목을 상위 K개에 끼워 넣기만 하고,
+ *       변경/삭제는 이전 키 경로의 노드만 아래에서부터 다시 계산합니다.</li>
+ * </ul>
+ *
+ * <p>조회는 읽기 락, 변경은 쓰기 락으로 보호합니다. (변경은 그룹 생성/수정과 주기적 조회수 갱신 시에만 발생)</p>
+ */
+public class GroupNameSuggestIndex {
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::score).reversed()
+            .thenComparing(Entry::name)
+            .thenComparingLong(Entry::groupId);
+
+    private final int suggestionSize;
+    private final Node root = new Node("");
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public GroupNameSuggestIndex(int suggestionSize) {
+        this.suggestionSize = suggestionSize;
+    }
+
+    /**
+     * 그룹 이름을 추가하거나 갱신합니다. (이름이 바뀌었으면 이전 이름의 키는 제거)
+     *
+     * @param groupId 그룹 ID
+     * @param name    그룹 이름 (원문 그대로 추천 결과로 반환)
+     * @param score   추천 순위 점수 (높을수록 먼저, 조회수 사용)
+     */
+    public void upsert(long groupId, String name, int score) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(groupId);
+            if (previous != null) {
+                keysOf(previous.name()).forEach(key -> remove(key, groupId));
+            }
+
+            Entry entry = new Entry(groupId, name, score);
+            entries.put(groupId, entry);
+            keysOf(name).forEach(key -> insert(key, entry));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 없는 그룹만 추가합니다. (시작 시 적재 중에 이벤트로 먼저 들어온 최신 값을 덮어쓰지 않기 위함)
+     */
+    public void putIfAbsent(long groupId, String name, int score) {
+        lock.writeLock().lock();
+        try {
+            if (entries.containsKey(groupId)) {
+                return;
+            }
+
+            Entry entry = new Entry(groupId, name, score);
+            entries.put(groupId, entry);
+            keysOf(name).forEach(key -> insert(key, entry));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이름이나 점수가 바뀐 경우에만 갱신합니다. (주기적 점수 갱신 시 그대로인 그룹의 재계산 비용을 피하기 위함)
+     *
+     * @return 갱신했으면 true
+     */
+    public boolean upsertIfChanged(long groupId, String name, int score) {
+        lock.readLock().lock();
+        try {
+            Entry current = entries.get(groupId);
+            if (current != null && current.score() == score && current.name().equals(name)) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        upsert(groupId, name, score);
+        return true;
+    }
+
+    public void remove(long groupId) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(groupId);
+            if (previous != null) {
+                keysOf(previous.name()).forEach(key -> remove(key, groupId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 그룹 이름을 순위 순으로 최대 suggestionSize 개 반환합니다.
+     */
+    public List<String> suggest(String prefix) {
+        String key = HangulUtils.toJamo(normalize(prefix));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return List.of();
+            }
+
+            List<String> names = new ArrayList<>(node.top.length);
+            for (Entry entry : node.top) {
+                names.add(entry.name());
+            }
+            return names;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 접두사가 끝나는 위치를 포함하는 노드 (접두사가 간선 중간에서 끝나면 그 간선의 자식 노드)
+    private Node find(String key) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                return null;
+            }
+
+            int remaining = key.length() - i;
+            if (remaining <= child.label.length()) {
+                return child.label.startsWith(key.substring(i)) ? child : null;
+            }
+            if (!key.startsWith(child.label, i)) {
+                return null;
+            }
+            node = child;
+            i += child.label.length();
+        }
+        return node;
+    }
+
+    private void insert(String key, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int i = 0;
+
+        while (true) {
+            path.add(node);
+            if (i == key.length()) {
+                node.addTerminal(entry);
+                break;
+            }
+
+            Node child = node.child(key.charAt(i));
+            if (child == null) { // 새 간선: 남은 키 전체를 라벨로 갖는 잎 노드
+                Node leaf = new Node(key.substring(i));
+                leaf.addTerminal(entry);
+                node.addChild(leaf);
+                path.add(leaf);
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) { // 간선 중간에서 갈라지면 공통 부분으로 중간 노드를 만들어 분리
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                node.replaceChild(middle);
+                middle.addChild(child);
+                middle.recomputeTop(suggestionSize); // 자식 하나뿐이라 계산 비용이 작음
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+
+        // 추가는 기존 결과를 밀어낼 수만 있으므로 경로의 각 노드에 새 항목만 제안
+        for (Node visited : path) {
+            visited.offer(entry, suggestionSize);
+        }
+    }
+
+    private void remove(String key, long groupId) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int i = 0;
+
+        path.add(node);
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            node = child;
+            i += child.label.length();
+            path.add(node);
+        }
+        node.removeTerminal(groupId);
+
+        // 비어 있는 잎 노드는 부모에서 떼어냄
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node current = path.get(depth);
+            if (current.terminals.length > 0 || current.children.length > 0) {
+                break;
+            }
+            path.get(depth - 1).removeChild(current);
+            path.remove(depth);
+        }
+        recompute(path);
+    }
+
+    // 경로의 아래쪽 노드부터 상위 K개를 다시 계산 (자식의 결과를 부모가 사용)
+    private void recompute(List<Node> path) {
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            path.get(depth).recomputeTop(suggestionSize);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // 이름 전체 + 각 단어의 시작 위치부터의 나머지 (자모 분해 키, 초성 키)
+    private static Set<String> keysOf(String name) {
+        String normalized = normalize(name);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+
+        addWordKeys(keys, HangulUtils.toJamo(normalized));
+        String chosung = HangulUtils.toChosung(normalized);
+        addWordKeys(keys, chosung);
+        keys.add(chosung.replace(" ", "")); // 띄어쓰기 없이 이어 친 초성
+        return keys;
+    }
+
+    private static void addWordKeys(Set<String> keys, String text) {
+        keys.add(text);
+        for (int i = text.indexOf(' '); i >= 0; i = text.indexOf(' ', i + 1)) {
+            keys.add(text.substring(i + 1));
+        }
+    }
+
+    // 대소문자 무시, 연속 공백은 하나로
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(long groupId, String name, int score) {
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private String label; // 부모에서 이 노드로 오는 간선의 문자열
+        private char[] firstChars = NO_KEYS; // 자식 라벨의 첫 글자 (정렬, 이진 탐색)
+        private Node[] children = NO_CHILDREN;
+        private Entry[] terminals = NO_ENTRIES; // 키가 정확히 이 노드에서 끝나는 그룹
+        private Entry[] top = NO_ENTRIES; // 하위 트리 전체의 상위 K개
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(firstChars, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void addChild(Node child) {
+            int index = -(Arrays.binarySearch(firstChars, child.label.charAt(0)) + 1);
+
+            char[] newKeys = new char[firstChars.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(firstChars, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = child.label.charAt(0);
+            newChildren[index] = child;
+            System.arraycopy(firstChars, index, newKeys, index + 1, firstChars.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+
+            firstChars = newKeys;
+            children = newChildren;
+        }
+
+        // 첫 글자가 같은 자식을 교체 (간선 분리 시)
+        private void replaceChild(Node child) {
+            children[Arrays.binarySearch(firstChars, child.label.charAt(0))] = child;
+        }
+
+        private void removeChild(Node child) {
+            int index = Arrays.binarySearch(firstChars, child.label.charAt(0));
+
+            char[] newKeys = new char[firstChars.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(firstChars, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(firstChars, index + 1, newKeys, index, firstChars.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+
+            firstChars = newKeys;
+            children = newChildren;
+        }
+
+        private void addTerminal(Entry entry) {
+            for (Entry terminal : terminals) {
+                if (terminal.groupId() == entry.groupId()) {
+                    return; // 한 이름에 같은 단어가 반복되는 경우
+                }
+            }
+            terminals = Arrays.copyOf(terminals, terminals.length + 1);
+            terminals[terminals.length - 1] = entry;
+        }
+
+        private void removeTerminal(long groupId) {
+            terminals = Arrays.stream(terminals)
+                    .filter(terminal -> terminal.groupId() != groupId)
+                    .toArray(Entry[]::new);
+        }
+
+        // 상위 K개에 들 수 있으면 순위 위치에 끼워 넣음 (같은 그룹이 이미 있으면 무시)
+        private void offer(Entry entry, int k) {
+            for (Entry current : top) {
+                if (current.groupId() == entry.groupId()) {
+                    return;
+                }
+            }
+
+            int index = 0;
+            while (index < top.length && RANKING.compare(top[index], entry) <= 0) {
+                index++;
+            }
+            if (index >= k) {
+                return;
+            }
+
+            Entry[] newTop = new Entry[Math.min(k, top.length + 1)];
+            System.arraycopy(top, 0, newTop, 0, index);
+            newTop[index] = entry;
+            System.arraycopy(top, index, newTop, index + 1, newTop.length - index - 1);
+            top = newTop;
+        }
+
+        // 자신의 terminals 와 자식들의 top 을 합쳐 상위 K개 선택 (같은 그룹은 한 번만)
+        private void recomputeTop(int k) {
+            List<Entry> candidates = new ArrayList<>(terminals.length + children.length * k);
+            Collections.addAll(candidates, terminals);
+            for (Node child : children) {
+                Collections.addAll(candidates, child.top);
+            }
+            candidates.sort(RANKING);
+
+            List<Entry> selected = new ArrayList<>(k);
+            Set<Long> seen = new HashSet<>();
+            for (Entry candidate : candidates) {
+                if (selected.size() == k) {
+                    break;
+                }
+                if (seen.add(candidate.groupId())) {
+                    selected.add(candidate);
+                }
+            }
+            top = selected.toArray(NO_ENTRIES);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.grow.study_service.group.application.search.suggest;
+
+import com.grow.study_service.group.application.search.GroupSearchService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 그룹 이름 자동 완성을 인스턴스 메모리의 접두사 인덱스({@link GroupNameSuggestIndex})로 처리합니다.
+ *
+ * <ol>
+ *   <li>애플리케이션 시작 후 study_groups 전체 이름을 ID 순 keyset 배치로 읽어 인덱스를 채웁니다. (백그라운드)</li>
+ *   <li>이후 그룹 생성/수정 이벤트로 인덱스를 갱신합니다. ({@link GroupNameSuggestEventListener})</li>
+ *   <li>조회수는 이벤트로 오지 않고 인스턴스마다 따로 쌓여 DB 에 합산되므로, 주기적으로 DB 의 조회수를 다시 읽어
+ *       바뀐 그룹만 점수를 갱신합니다. (모든 인스턴스의 순위가 DB 조회수를 따라감)</li>
+ *   <li>적재가 끝나기 전(cold)에는 기존 Elasticsearch 자동 완성 쿼리로 응답합니다.</li>
+ * </ol>
+ *
+ * <p>메트릭: {@code group.suggest.size} (인덱스의 그룹 수), {@code group.suggest.fallback} (ES 로 대체한 횟수),
+ * {@code group.suggest.refreshed} (주기적 갱신으로 점수/이름이 바뀐 그룹 수)</p>
+ */
+@Slf4j
+@Component
+public class GroupNameSuggester {
+
+    private static final int SUGGESTION_SIZE = 5; // ES 자동 완성과 같은 개수
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GroupSearchService groupSearchService;
+    private final GroupNameSuggestIndex index = new GroupNameSuggestIndex(SUGGESTION_SIZE);
+    private final int loadBatchSize;
+    private final Counter fallbackCounter;
+    private final Counter refreshedCounter;
+
+    private volatile boolean ready;
+
+    public GroupNameSuggester(JdbcTemplate jdbcTemplate,
+                              GroupSearchService groupSearchService,
+                              MeterRegistry meterRegistry,
+                              @Value("${group.suggest.load-batch-size:10000}") int loadBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.groupSearchService = groupSearchService;
+        this.loadBatchSize = loadBatchSize;
+        this.fallbackCounter = Counter.builder("group.suggest.fallback")
+                .description("메모리 인덱스 적재 전이라 ES 로 처리한 자동 완성 요청 수")
+                .register(meterRegistry);
+        this.refreshedCounter = Counter.builder("group.suggest.refreshed")
+                .description("주기적 조회수 갱신으로 점수/이름이 바뀐 그룹 수")
+                .register(meterRegistry);
+        Gauge.builder("group.suggest.size", index, GroupNameSuggestIndex::size).register(meterRegistry);
+    }
+
+    /**
+     * 검색어로 시작하는 그룹 이름을 최대 5개 반환합니다.
+     */
+    public List<String> suggest(String query) {
+        if (!ready) {
+            fallbackCounter.increment();
+            return groupSearchService.getGroupSuggestions(query);
+        }
+        return index.suggest(query);
+    }
+
+    // 메모리 인덱스 적재 완료 여부 (false 면 ES 자동 완성으로 대체 중)
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void upsert(long groupId, String name, int viewCount) {
+        index.upsert(groupId, name, viewCount);
+    }
+
+    // 시작을 막지 않도록 별도 스레드에서 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofPlatform()
+                .name("group-suggest-loader")
+                .daemon(true)
+                .start(this::load);
+    }
+
+    /**
+     * DB 의 조회수로 순위 점수를 주기적으로 갱신합니다. (시작 시 적재가 끝난 뒤부터)
+     * 갱신 도중 이벤트로 들어온 더 최신 이름을 읽어 둔 값으로 덮어쓸 수 있지만, 다음 주기에 DB 값으로 맞춰집니다.
+     */
+    @Scheduled(fixedDelayString = "${group.suggest.refresh-interval-ms:300000}",
+            initialDelayString = "${group.suggest.refresh-interval-ms:300000}")
+    public void refreshScores() {
+        if (!ready) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            int changed = scan((groupId, name, viewCount) ->
+                    index.upsertIfChanged(groupId, name, viewCount) ? 1 : 0);
+            refreshedCounter.increment(changed);
+            log.debug("[GROUP][SUGGEST][REFRESH] 자동 완성 점수 갱신 완료 changed={} elapsed={}ms",
+                    changed, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) { // 이전 점수를 유지하고 다음 주기에 재시도
+            log.warn("[GROUP][SUGGEST][REFRESH] 자동 완성 점수 갱신 실패, 다음 주기에 재시도 cause={}", e.getMessage());
+        }
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        try {
+            scan((groupId, name, viewCount) -> {
+                index.putIfAbsent(groupId, name, viewCount);
+                return 0;
+            });
+
+            ready = true;
+            log.info("[GROUP][SUGGEST][READY] 자동 완성 인덱스 적재 완료 groups={} elapsed={}ms",
+                    index.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) { // 적재 실패 시 계속 ES 로 처리
+            log.error("[GROUP][SUGGEST] 자동 완성 인덱스 적재 실패, ES 자동 완성을 계속 사용합니다.", e);
+        }
+    }
+
+    // study_groups 전체를 ID 순 keyset 배치로 읽어 행마다 처리하고, 처리 결과의 합을 반환
+    private int scan(GroupRowHandler handler) {
+        long lastId = 0;
+        int total = 0;
+        int loaded;
+        do {
+            long[] maxId = {lastId};
+            int[] sum = {0};
+            loaded = jdbcTemplate.query(
+                    "SELECT id, name, view_count FROM study_groups WHERE id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> {
+                        long groupId = rs.getLong("id");
+                        sum[0] += handler.handle(groupId, rs.getString("name"), rs.getInt("view_count"));
+                        maxId[0] = groupId;
+                        return groupId;
+                    },
+                    lastId, loadBatchSize).size();
+            lastId = maxId[0];
+            total += sum[0];
+        } while (loaded == loadBatchSize);
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface GroupRowHandler {
+        int handle(long groupId, String name, int viewCount);
+    }
+}
@@ -0,0 +1,37 @@
+package com.grow.study_service.group.application.search.suggest;
+
+import com.grow.study_service.group.application.search.GroupSearchService;
+import com.grow.study_service.group.domain.enums.Category;
+import com.grow.study_service.group.domain.enums.SkillTag;
+import com.grow.study_service.group.presentation.dto.search.GroupSearchResponse;
+import com.grow.study_service.group.presentation.dto.search.GroupSuggestSearchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 자동 완성과 첫 페이지 검색을 한 번에 응답합니다. (검색 페이지 진입 시 연속된 두 요청을 하나로 합침)
+ *
+ * <ul>
+ *   <li>메모리 자동 완성 인덱스가 적재된 경우: 자동 완성은 {@link GroupNameSuggester}, 검색은 {@link GroupSearchService#searchGroup} 1페이지 (결과 캐시 사용)</li>
+ *   <li>적재 전(cold): {@link GroupSearchService#suggestAndSearch} 로 ES 자동 완성 + 검색을 한 번의 _msearch 로 처리 (검색 결과는 같은 캐시 사용)</li>
+ * </ul>
+ *
+ * <p>/suggestions, /search 를 따로 호출했을 때와 같은 결과를 돌려줍니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class GroupSuggestSearchFacade {
+
+    private final GroupNameSuggester groupNameSuggester;
+    private final GroupSearchService groupSearchService;
+
+    public GroupSuggestSearchResponse suggestAndSearch(String query, Category category, SkillTag skillTag,
+                                                       String sortBy, String sortOrder, int size) {
+        if (!groupNameSuggester.isReady()) {
+            return groupSearchService.suggestAndSearch(query, category, skillTag, sortBy, sortOrder, size);
+        }
+
+        GroupSearchResponse search = groupSearchService.searchGroup(query, category, skillTag, sortBy, sortOrder, 1, size, null);
+        return new GroupSuggestSearchResponse(groupNameSuggester.suggest(query), search);
+    }
+}
@@ -0,0 +1,49 @@
+package com.grow.study_service.group.application.view;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹 조회수를 메모리에 모아 두는 버퍼 (write-behind).
+ * 상세 조회마다 그룹 행을 읽고-수정하고-저장(@Version 병합)하면 인기 그룹에 낙관적 락 충돌과 행 락 경합이 몰리므로,
+ * 조회 시에는 메모리의 카운터만 증가시키고 {@link GroupViewCountFlushScheduler}가 주기적으로 DB에 합산합니다.
+ *
+ * <p>증가는 {@link ConcurrentHashMap#merge}, 비우기는 {@link ConcurrentHashMap#remove} 로 키 단위 원자적으로 처리합니다.
+ * 비우기는 카운터를 꺼내면서 제거하므로 한 번 조회된 그룹이 메모리에 계속 남지 않고,
+ * 이후의 증가는 새 카운터에 쌓여 다음 비우기에 포함됩니다. (증가분이 유실되거나 두 번 합산되지 않음)</p>
+ */
+@Component
+public class GroupViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, Long> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long groupId) {
+        counters.merge(groupId, 1L, Long::sum);
+    }
+
+    /**
+     * 쌓인 조회수를 꺼내고 카운터를 제거합니다.
+     *
+     * @return 그룹 ID → 증가분
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long groupId : counters.keySet()) {
+            Long delta = counters.remove(groupId); // 꺼내기와 제거를 한 번에 -> 이후 증가분은 새 카운터로
+            if (delta != null) {
+                deltas.put(groupId, delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * DB 반영에 실패한 증가분을 다시 버퍼에 되돌립니다. (다음 주기에 재시도)
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((groupId, delta) -> counters.merge(groupId, delta, Long::sum));
+    }
+}
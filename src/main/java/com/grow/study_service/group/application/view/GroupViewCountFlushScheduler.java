@@ -0,0 +1,47 @@
+package com.grow.study_service.group.application.view;
+
+import com.grow.study_service.group.domain.repository.GroupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupViewCountFlushScheduler {
+
+    private final GroupViewCountBuffer groupViewCountBuffer;
+    private final GroupRepository groupRepository;
+
+    /**
+     * 메모리에 쌓인 조회수를 주기적으로 DB에 합산합니다.
+     * 그룹 수만큼의 UPDATE ... SET view_count = view_count + ? 를 JDBC 배치 한 번으로 전송하며,
+     * 실패하면 증가분을 버퍼로 되돌려 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${group.view-count.flush-interval-ms:5000}")
+    public void flushViewCounts() {
+        Map<Long, Long> deltas = groupViewCountBuffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            groupRepository.addViewCounts(deltas);
+            log.debug("[GROUP][VIEW COUNT][FLUSH] 조회수 반영 완료 그룹 수={}", deltas.size());
+        } catch (RuntimeException e) {
+            groupViewCountBuffer.restore(deltas);
+            log.warn("[GROUP][VIEW COUNT][FLUSH] 조회수 반영 실패, 다음 주기에 재시도 그룹 수={} cause={}",
+                    deltas.size(), e.getMessage());
+        }
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
@@ -1,14 +1,17 @@
 package com.grow.study_service.group.domain.document;
 
+import com.grow.study_service.common.util.HangulUtils;
 import com.grow.study_service.group.domain.enums.Category;
 import com.grow.study_service.group.domain.enums.PersonalityTag;
 import com.grow.study_service.group.domain.enums.SkillTag;
+import com.grow.study_service.group.domain.model.Group;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.*;
 
 import java.time.LocalDate;
+import java.util.Locale;
 
 @Document(indexName = "groups")
 @Setting(settingPath = "/elasticsearch/group-settings.json")
@@ -17,6 +20,7 @@ import java.time.LocalDate;
 public class GroupDocument {
 
     @Id
+    @Field(type = FieldType.Keyword) // search_after 정렬의 동점 처리(tiebreaker) 키
     private String id; // 엘라스틱 서치 기본 ID 값은 String 타입으로 저장됨
 
     // 그룹 이름 -> 유연한 검색 가능, 자동 완성이 가능하게끔 해야 함
@@ -28,6 +32,14 @@ public class GroupDocument {
     )
     private String name;
 
+    // 초성 자동 완성용 (예: 자바 스터디 → ㅈㅂ ㅅㅌㄷ ㅈㅂㅅㅌㄷ), 도큐먼트 생성 시 계산
+    @Field(type = FieldType.Text, analyzer = "groups_prefix_index_analyzer", searchAnalyzer = "groups_prefix_search_analyzer")
+    private String nameChosung;
+
+    // 자모 분해 자동 완성용 (예: 자바 → ㅈㅏㅂㅏ, 입력 중인 "잡" 도 접두사로 일치), 도큐먼트 생성 시 계산
+    @Field(type = FieldType.Text, analyzer = "groups_prefix_index_analyzer", searchAnalyzer = "groups_prefix_search_analyzer")
+    private String nameJamo;
+
     @Field(type = FieldType.Text, analyzer = "groups_description_analyzer")
     private String description;
 
@@ -64,8 +76,28 @@ public class GroupDocument {
     )
     private String skillTag;
 
-    // 하이라이팅 하기 위함
-    public void updateName(String newName) {
-        this.name = newName;
+    // 그룹 도메인 객체로부터 색인용 도큐먼트 생성
+    public static GroupDocument from(Group group) {
+        return new GroupDocument(
+                group.getGroupId().toString(), // 원본 Long 타입 저장 -> String 타입으로 저장
+                group.getName(),
+                chosungOf(group.getName()),
+                HangulUtils.toJamo(group.getName()).toLowerCase(Locale.ROOT),
+                group.getDescription(),
+                group.getCategory().getDescription(),
+                group.getStartAt(),
+                group.getEndAt(),
+                group.getAmount(),
+                group.getViewCount(),
+                group.getPersonalityTag(),
+                group.getSkillTag().getDescription()
+        );
+    }
+
+    // 단어별 초성 + 띄어쓰기 없이 이어 친 초성 (ㅈㅂㅅㅌㄷ 입력도 일치하도록)
+    private static String chosungOf(String name) {
+        String chosung = HangulUtils.toChosung(name).toLowerCase(Locale.ROOT).strip();
+        String compact = chosung.replaceAll("\\s+", "");
+        return compact.equals(chosung) ? chosung : chosung + " " + compact;
     }
 }
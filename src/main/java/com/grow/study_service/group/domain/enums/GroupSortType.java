@@ -0,0 +1,27 @@
+package com.grow.study_service.group.domain.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 그룹 목록 정렬 기준 (커서 페이지네이션의 정렬 키)
+ * 모든 정렬은 동점일 때 그룹 ID 내림차순을 보조 키로 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum GroupSortType {
+	START_AT("startAt", "최신순"),
+	VIEW_COUNT("viewCount", "조회수순");
+
+	private final String key; // 요청 파라미터 값 (sortBy)
+	private final String description;
+
+	public static Optional<GroupSortType> fromKey(String key) {
+		return Arrays.stream(values())
+				.filter(type -> type.key.equalsIgnoreCase(key))
+				.findFirst();
+	}
+}
@@ -191,12 +191,6 @@ public class Group {
         }
     }
 
-    public Group incrementViewCount() {
-        this.viewCount++;
-
-        return this;
-    }
-
     // 총 일수 계산: ChronoUnit 으로 일 단위 차이 (시작일 포함 위해 +1)
     public long calculateTotalDays (LocalDate start, LocalDate end) {
         long totalDays = ChronoUnit.DAYS.between(start, end) + 1;
@@ -1,16 +1,15 @@
 package com.grow.study_service.group.domain.repository;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import com.grow.study_service.group.domain.enums.Category;
 import com.grow.study_service.group.domain.model.Group;
 
 public interface GroupRepository {
 	Group save(Group group);
 	Optional<Group> findById(Long groupId);
 	void delete(Group group);
-    List<Group> findAllByCategory(Category category);
 	String findGroupNameById(Long groupId);
 	boolean existsByGroupName(String groupName);
+	void addViewCounts(Map<Long, Long> viewCountDeltas);
 }
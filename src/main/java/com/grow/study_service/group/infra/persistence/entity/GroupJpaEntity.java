@@ -12,7 +12,10 @@ import lombok.*;
 @Entity
 @Getter
 @Builder
-@Table(name = "study_groups")
+@Table(name = "study_groups", indexes = {
+		@Index(name = "idx_study_groups_category_start_at", columnList = "category, start_at, id"), // 최신순 커서 페이지네이션
+		@Index(name = "idx_study_groups_category_view_count", columnList = "category, view_count, id") // 조회수순 커서 페이지네이션
+})
 @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class GroupJpaEntity {
@@ -1,10 +1,13 @@
 package com.grow.study_service.group.infra.persistence.repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import com.grow.study_service.group.domain.enums.Category;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.grow.study_service.group.domain.model.Group;
 import com.grow.study_service.group.domain.repository.GroupRepository;
@@ -16,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class GroupRepositoryImpl implements GroupRepository {
 	private final GroupJpaRepository groupJpaRepository;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public Group save(Group group) {
@@ -33,15 +37,6 @@ public class GroupRepositoryImpl implements GroupRepository {
 		groupJpaRepository.delete(GroupMapper.toEntity(group));
 	}
 
-	// 카테고리별 전체 그룹을 조회
-	@Override
-	public List<Group> findAllByCategory(Category category) {
-        return groupJpaRepository.findAllByCategory(category)
-				.stream()
-				.map(GroupMapper::toDomain)
-				.toList();
-	}
-
 	/**
 	 * 주어진 그룹 ID로 그룹 이름을 조회합니다.
 	 * 그룹이 존재하지 않으면 null을 반환합니다.
@@ -63,4 +58,23 @@ public class GroupRepositoryImpl implements GroupRepository {
 	public boolean existsByGroupName(String groupName) {
 		return groupJpaRepository.existsByName((groupName));
 	}
+
+	/**
+	 * 그룹별 조회수 증가분을 DB에 합산합니다.
+	 * 엔티티를 읽어 병합하지 않고 view_count = view_count + ? 로 누적하므로 @Version 이 증가하지 않아
+	 * 다른 수정과 낙관적 락 충돌이 나지 않으며, 모든 그룹의 UPDATE 를 JDBC 배치 한 번으로 전송합니다.
+	 * 여러 인스턴스가 동시에 반영할 때 교착 상태를 피하기 위해 그룹 ID 오름차순으로 갱신합니다.
+	 *
+	 * @param viewCountDeltas 그룹 ID → 조회수 증가분
+	 */
+	@Override
+	@Transactional
+	public void addViewCounts(Map<Long, Long> viewCountDeltas) {
+		List<Object[]> batchArgs = new ArrayList<>();
+		viewCountDeltas.entrySet().stream()
+				.sorted(Map.Entry.comparingByKey())
+				.forEach(entry -> batchArgs.add(new Object[]{entry.getValue(), entry.getKey()}));
+
+		jdbcTemplate.batchUpdate("UPDATE study_groups SET view_count = view_count + ? WHERE id = ?", batchArgs);
+	}
 }
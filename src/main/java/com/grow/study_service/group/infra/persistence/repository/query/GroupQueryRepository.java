@@ -1,5 +1,8 @@
 package com.grow.study_service.group.infra.persistence.repository.query;
 
+import com.grow.study_service.group.application.dto.GroupCursor;
+import com.grow.study_service.group.application.dto.GroupWithLeader;
+import com.grow.study_service.group.application.dto.LeaderGroup;
 import com.grow.study_service.group.domain.enums.Category;
 import com.grow.study_service.group.presentation.dto.GroupSimpleResponse;
 
@@ -9,5 +12,7 @@ public interface GroupQueryRepository {
 
     List<GroupSimpleResponse> findJoinedGroupsByMemberAndCategory(Long memberId, Category category);
 
-    List<Long> findGroupIdsByLeaderId(Long memberId);
+    List<LeaderGroup> findLeaderGroupsByMemberId(Long memberId);
+
+    List<GroupWithLeader> findGroupsWithLeaderByCategory(Category category, GroupCursor cursor, int limit);
 }
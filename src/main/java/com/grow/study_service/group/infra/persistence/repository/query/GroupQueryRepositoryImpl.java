@@ -1,11 +1,17 @@
 package com.grow.study_service.group.infra.persistence.repository.query;
 
+import com.grow.study_service.group.application.dto.GroupCursor;
+import com.grow.study_service.group.application.dto.GroupWithLeader;
+import com.grow.study_service.group.application.dto.LeaderGroup;
 import com.grow.study_service.group.domain.enums.Category;
+import com.grow.study_service.group.domain.enums.GroupSortType;
 import com.grow.study_service.group.infra.persistence.entity.QGroupJpaEntity;
 import com.grow.study_service.group.presentation.dto.GroupSimpleResponse;
 import com.grow.study_service.groupmember.domain.enums.Role;
 import com.grow.study_service.groupmember.infra.persistence.entity.QGroupMemberJpaEntity;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -57,21 +63,105 @@ public class GroupQueryRepositoryImpl implements GroupQueryRepository {
     }
 
     /**
-     * 주어진 회원 ID를 기반으로, 해당 회원이 그룹장(LEADER)인 그룹의 ID 목록을 조회합니다.
-     * GroupMemberJpaEntity에서 memberId와 Role.LEADER 조건으로 필터링하며, 결과를 Long 타입의 리스트로 반환합니다.
-     * 결과가 없을 경우 빈 리스트를 반환합니다.
+     * 주어진 회원 ID를 기반으로, 해당 회원이 그룹장(LEADER)인 그룹의 ID와 이름을 한 번의 쿼리로 조회합니다.
+     * GroupMemberJpaEntity에서 memberId와 Role.LEADER 조건으로 필터링하고 GroupJpaEntity와 ID 기반으로 조인하여,
+     * 그룹마다 이름을 따로 조회하지 않도록 LeaderGroup DTO 리스트로 반환합니다. (그룹 ID 순)
      *
      * @param memberId 조회할 회원의 ID (필수, null 불가)
-     * @return 그룹 ID 리스트 (빈 리스트일 수 있음)
+     * @return 그룹 ID와 이름을 담은 LeaderGroup 리스트 (빈 리스트일 수 있음)
      */
     @Override
-    public List<Long> findGroupIdsByLeaderId(Long memberId) {
+    public List<LeaderGroup> findLeaderGroupsByMemberId(Long memberId) {
         QGroupMemberJpaEntity groupMember = groupMemberJpaEntity;
+        QGroupJpaEntity group = QGroupJpaEntity.groupJpaEntity;
 
-        return factory
-                .select(groupMember.groupId)
+        List<Tuple> tupleList = factory.select(group.id, group.name)
                 .from(groupMember)
+                .join(group)
+                .on(groupMember.groupId.eq(group.id)) // ID 기반 (GroupMember 테이블과 Group 테이블을 조인)
                 .where(groupMember.memberId.eq(memberId), groupMember.role.eq(Role.LEADER))
+                .orderBy(group.id.asc())
+                .fetch();
+
+        return tupleList.stream()
+                .map(tuple -> new LeaderGroup(
+                        tuple.get(group.id),
+                        tuple.get(group.name)
+                ))
+                .toList();
+    }
+
+    /**
+     * 주어진 카테고리의 그룹 목록을 각 그룹의 리더(LEADER) 멤버 ID와 함께 한 번의 쿼리로 조회합니다.
+     * 그룹마다 리더를 따로 조회하던 N+1 문제를 없애기 위해 study_groups 와 group_member 를
+     * (groupId, role = LEADER) 조건으로 조인하고, 필요한 컬럼만 골라 GroupWithLeader DTO로 반환합니다.
+     * 리더가 없는 그룹은 조인 결과에서 제외됩니다.
+     *
+     * <p>커서(keyset) 페이지네이션을 사용합니다. OFFSET 대신 직전 페이지 마지막 행의 (정렬 키, 그룹 ID)보다
+     * 뒤에 있는 행만 조건으로 걸러내므로, 페이지가 깊어져도 (category, 정렬 키, id) 인덱스 범위 스캔만 수행합니다.</p>
+     *
+     * @param category 조회할 그룹의 카테고리 (필수, null 불가)
+     * @param cursor   조회 시작 위치와 정렬 기준 (첫 페이지면 조건 없음)
+     * @param limit    최대 조회 건수
+     * @return 그룹 정보와 리더 멤버 ID를 담은 GroupWithLeader 리스트 (빈 리스트일 수 있음)
+     */
+    @Override
+    public List<GroupWithLeader> findGroupsWithLeaderByCategory(Category category, GroupCursor cursor, int limit) {
+        QGroupMemberJpaEntity groupMember = groupMemberJpaEntity;
+        QGroupJpaEntity group = QGroupJpaEntity.groupJpaEntity;
+
+        List<Tuple> tupleList = factory.select(group.id, group.name, group.category, group.description,
+                        group.amount, group.personalityTag, group.skillTag, group.startAt, group.viewCount,
+                        groupMember.memberId)
+                .from(group)
+                .join(groupMember)
+                .on(groupMember.groupId.eq(group.id), groupMember.role.eq(Role.LEADER)) // 리더 행만 조인
+                .where(
+                        group.category.eq(category),
+                        afterCursor(group, cursor) // 첫 페이지면 null -> 조건 무시
+                )
+                .orderBy(orderBy(group, cursor.getSortType()))
+                .limit(limit)
                 .fetch();
+
+        return tupleList.stream()
+                .map(tuple -> new GroupWithLeader(
+                        tuple.get(group.id),
+                        tuple.get(group.name),
+                        tuple.get(group.category),
+                        tuple.get(group.description),
+                        tuple.get(group.amount),
+                        tuple.get(group.personalityTag),
+                        tuple.get(group.skillTag),
+                        tuple.get(group.startAt),
+                        tuple.get(group.viewCount),
+                        tuple.get(groupMember.memberId)
+                ))
+                .toList();
+    }
+
+    // (정렬 키, id) < (커서 정렬 키, 커서 id) - 내림차순 기준으로 커서 다음 행부터
+    // 시작 날짜가 null 인 그룹은 최신순 맨 뒤에 id 내림차순으로 이어짐
+    private BooleanExpression afterCursor(QGroupJpaEntity group, GroupCursor cursor) {
+        if (cursor.isFirstPage()) {
+            return null;
+        }
+
+        return switch (cursor.getSortType()) {
+            case START_AT -> cursor.getStartAt() == null
+                    ? group.startAt.isNull().and(group.id.lt(cursor.getGroupId()))
+                    : group.startAt.lt(cursor.getStartAt())
+                    .or(group.startAt.eq(cursor.getStartAt()).and(group.id.lt(cursor.getGroupId())))
+                    .or(group.startAt.isNull());
+            case VIEW_COUNT -> group.viewCount.lt(cursor.getViewCount())
+                    .or(group.viewCount.eq(cursor.getViewCount()).and(group.id.lt(cursor.getGroupId())));
+        };
+    }
+
+    private OrderSpecifier<?>[] orderBy(QGroupJpaEntity group, GroupSortType sortType) {
+        return switch (sortType) {
+            case START_AT -> new OrderSpecifier<?>[]{group.startAt.desc().nullsLast(), group.id.desc()};
+            case VIEW_COUNT -> new OrderSpecifier<?>[]{group.viewCount.desc(), group.id.desc()};
+        };
     }
 }
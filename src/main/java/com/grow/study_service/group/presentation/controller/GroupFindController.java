@@ -4,8 +4,8 @@ import com.grow.study_service.common.rsdata.RsData;
 import com.grow.study_service.group.application.GroupFacadeService;
 import com.grow.study_service.group.application.GroupTransactionService;
 import com.grow.study_service.group.domain.enums.Category;
+import com.grow.study_service.group.presentation.dto.GroupCursorResponse;
 import com.grow.study_service.group.presentation.dto.GroupDetailResponse;
-import com.grow.study_service.group.presentation.dto.GroupResponse;
 import com.grow.study_service.group.presentation.dto.GroupSimpleResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -20,11 +20,14 @@ public class GroupFindController {
     private final GroupFacadeService groupFacadeService;
     private final GroupTransactionService groupService;
 
-    // 전체 그룹 조회 (카테고리 별 조회 가능)
+    // 전체 그룹 조회 (카테고리 별 조회 가능, 커서 기반 페이지네이션)
     @GetMapping()
-    public RsData<List<GroupResponse>> getGroups(@RequestParam("category") Category category) {
+    public RsData<GroupCursorResponse> getGroups(@RequestParam("category") Category category,
+                                                 @RequestParam(value = "sortBy", defaultValue = "startAt") String sortBy, // 정렬 기준 (startAt: 최신순, viewCount: 조회수순)
+                                                 @RequestParam(value = "cursor", required = false) String cursor, // 이전 응답의 nextCursor (첫 페이지는 생략)
+                                                 @RequestParam(value = "size", defaultValue = "20") int size) {
 
-        List<GroupResponse> responses = groupFacadeService.getAllGroupsByCategory(category);
+        GroupCursorResponse responses = groupFacadeService.getAllGroupsByCategory(category, sortBy, cursor, size);
 
         return new RsData<>(
                 "200",
@@ -2,11 +2,11 @@ package com.grow.study_service.group.presentation.controller;
 
 import com.grow.study_service.common.rsdata.RsData;
 import com.grow.study_service.group.application.GroupFacadeService;
-import com.grow.study_service.group.application.api.MemberApiServiceImpl.MemberInfo;
 import com.grow.study_service.group.application.join.GroupJoinService;
 import com.grow.study_service.group.presentation.dto.join.JoinConfirmRequest;
 import com.grow.study_service.group.presentation.dto.join.JoinInfoResponse;
 import com.grow.study_service.group.presentation.dto.join.JoinRequest;
+import com.grow.study_service.group.presentation.dto.join.JoinRequestMembersResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -63,9 +63,11 @@ public class GroupJoinController {
 
     // 그룹별 가입 요청 확인 API (ID 기반, 그룹장 전용)
     @GetMapping("/check/join-request/{groupId}")
-    public RsData<List<MemberInfo>> checkJoinRequest(@PathVariable("groupId") Long groupId) {
+    public RsData<JoinRequestMembersResponse> checkJoinRequest(@PathVariable("groupId") Long groupId,
+                                                               @RequestParam(required = false) String cursor, // 이전 응답의 nextCursor (첫 페이지면 생략)
+                                                               @RequestParam(defaultValue = "20") int size) {
 
-        List<MemberInfo> responses = groupFacadeService.getJoinMemberInfo(groupId);
+        JoinRequestMembersResponse responses = groupFacadeService.getJoinMemberInfo(groupId, cursor, size);
 
         return new RsData<>("200",
                 "가입 요청 확인 완료",
@@ -1,9 +1,12 @@
 package com.grow.study_service.group.presentation.controller.elastic;
 
 import com.grow.study_service.group.application.search.GroupSearchService;
-import com.grow.study_service.group.domain.document.GroupDocument;
+import com.grow.study_service.group.application.search.suggest.GroupNameSuggester;
+import com.grow.study_service.group.application.search.suggest.GroupSuggestSearchFacade;
 import com.grow.study_service.group.domain.enums.Category;
 import com.grow.study_service.group.domain.enums.SkillTag;
+import com.grow.study_service.group.presentation.dto.search.GroupSearchResponse;
+import com.grow.study_service.group.presentation.dto.search.GroupSuggestSearchResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,26 +22,42 @@ import java.util.List;
 public class GroupSearchController {
 
     private final GroupSearchService searchService;
+    private final GroupNameSuggester groupNameSuggester;
+    private final GroupSuggestSearchFacade groupSuggestSearchFacade;
 
-    // 자동 완성 API
+    // 자동 완성 API (메모리 접두사 인덱스, 적재 전에는 ES 로 처리)
     @GetMapping("/suggestions")
     public ResponseEntity<List<String>> getGroupSuggestions(@RequestParam String query) {
 
-        List<String> suggestions = searchService.getGroupSuggestions(query);
+        List<String> suggestions = groupNameSuggester.suggest(query);
         return ResponseEntity.ok(suggestions);
     }
 
     // 검색 API
     @GetMapping("/search")
-    public ResponseEntity<List<GroupDocument>> getGroupSearch(@RequestParam String query, // 검색할 단어 (name + description + category + skillTag 에서 찾을 것임 (필수))
+    public ResponseEntity<GroupSearchResponse> getGroupSearch(@RequestParam String query, // 검색할 단어 (name + description + category + skillTag 에서 찾을 것임 (필수))
                                                               @RequestParam(required = false) Category category,
                                                               @RequestParam(required = false) SkillTag skillTag,
                                                               @RequestParam(required = false, defaultValue = "startAt") String sortBy,  // 정렬 기준 (기본: 생성 순) [조회수 순 or 생성 순]
                                                               @RequestParam(required = false, defaultValue = "desc") String sortOrder,  // 정렬 방향 (asc/desc)
                                                               @RequestParam(defaultValue = "1") int page,
-                                                              @RequestParam(defaultValue = "10") int size) {
+                                                              @RequestParam(defaultValue = "10") int size,
+                                                              @RequestParam(required = false) String cursor) { // 이전 응답의 nextCursor (깊은 페이지 이어보기)
 
-        List<GroupDocument> groupDocuments = searchService.searchGroup(query, category, skillTag, sortBy, sortOrder, page, size);
-        return ResponseEntity.ok(groupDocuments);
+        GroupSearchResponse response = searchService.searchGroup(query, category, skillTag, sortBy, sortOrder, page, size, cursor);
+        return ResponseEntity.ok(response);
+    }
+
+    // 자동 완성 + 첫 페이지 검색 API (검색 페이지 진입 시 두 요청을 하나로 처리)
+    @GetMapping("/suggest-search")
+    public ResponseEntity<GroupSuggestSearchResponse> getGroupSuggestAndSearch(@RequestParam String query,
+                                                                               @RequestParam(required = false) Category category,
+                                                                               @RequestParam(required = false) SkillTag skillTag,
+                                                                               @RequestParam(required = false, defaultValue = "startAt") String sortBy,
+                                                                               @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+                                                                               @RequestParam(defaultValue = "10") int size) {
+
+        GroupSuggestSearchResponse response = groupSuggestSearchFacade.suggestAndSearch(query, category, skillTag, sortBy, sortOrder, size);
+        return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,15 @@
+package com.grow.study_service.group.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class GroupCursorResponse {
+
+    private List<GroupResponse> groups; // 현재 페이지의 그룹 목록
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+}
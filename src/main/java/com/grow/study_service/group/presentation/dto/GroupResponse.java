@@ -1,5 +1,6 @@
 package com.grow.study_service.group.presentation.dto;
 
+import com.grow.study_service.group.application.dto.GroupWithLeader;
 import com.grow.study_service.group.domain.enums.Category;
 import com.grow.study_service.group.domain.enums.PersonalityTag;
 import com.grow.study_service.group.domain.enums.SkillTag;
@@ -34,4 +35,17 @@ public class GroupResponse {
                 .skillTag(group.getSkillTag())
                 .build();
     }
+
+    public static GroupResponse of(GroupWithLeader groupWithLeader, String leaderNickname) {
+        return GroupResponse.builder()
+                .groupId(groupWithLeader.getGroupId())
+                .groupName(groupWithLeader.getName())
+                .leaderNickname(leaderNickname)
+                .category(groupWithLeader.getCategory())
+                .amount(groupWithLeader.getAmount())
+                .description(groupWithLeader.getDescription())
+                .personalityTag(groupWithLeader.getPersonalityTag())
+                .skillTag(groupWithLeader.getSkillTag())
+                .build();
+    }
 }
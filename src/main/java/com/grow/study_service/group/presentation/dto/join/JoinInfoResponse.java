@@ -9,4 +9,5 @@ public class JoinInfoResponse {
 
     private final Long groupId;
     private final String groupName;
+    private final long pendingCount; // 대기 중인 가입 요청 수 (만료된 요청 제외)
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.grow.study_service.group.presentation.dto.join;
+
+import com.grow.study_service.group.application.api.MemberApiServiceImpl.MemberInfo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class JoinRequestMembersResponse {
+
+    private List<MemberInfo> members; // 가입 요청한 멤버 정보 (요청 순서 유지)
+    private boolean degraded; // 일부 멤버 정보를 기한 안에 조회하지 못한 경우 true (해당 항목도 degraded = true)
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+
+    public static JoinRequestMembersResponse of(List<MemberInfo> members, String nextCursor, boolean hasNext) {
+        return new JoinRequestMembersResponse(members, members.stream().anyMatch(MemberInfo::isDegraded), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,19 @@
+package com.grow.study_service.group.presentation.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class GroupSearchResponse {
+
+    private List<GroupSearchResult> groups; // 현재 페이지의 검색 결과
+    private long totalHits; // 전체 검색 결과 수
+    private String nextCursor; // 다음 결과 요청 시 전달할 커서 (마지막이면 null)
+    private boolean hasNext; // 다음 결과 존재 여부
+    private Map<String, Long> categoryCounts; // 카테고리별 결과 수 (스킬 태그 필터만 적용, 커서 이어보기 응답은 빈 값)
+    private Map<String, Long> skillTagCounts; // 스킬 태그별 결과 수 (카테고리 필터만 적용, 커서 이어보기 응답은 빈 값)
+}
@@ -0,0 +1,35 @@
+package com.grow.study_service.group.presentation.dto.search;
+
+import com.grow.study_service.group.domain.document.GroupDocument;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 그룹 검색 목록의 한 항목. (목록 화면에 그리는 필드만 담음)
+ */
+@Getter
+@AllArgsConstructor
+public class GroupSearchResult {
+
+    private Long groupId; // 그룹 아이디
+    private String name; // 그룹 이름 (원본)
+    private String highlightedName; // 검색어가 <b></b> 로 강조된 그룹 이름 (이름에서 일치하지 않았으면 null)
+    private String category; // 카테고리
+    private String skillTag; // 스킬 태그
+    private LocalDate startAt; // 시작일
+    private int viewCount; // 조회수
+
+    public static GroupSearchResult of(GroupDocument document, String highlightedName) {
+        return new GroupSearchResult(
+                Long.valueOf(document.getId()),
+                document.getName(),
+                highlightedName,
+                document.getCategory(),
+                document.getSkillTag(),
+                document.getStartAt(),
+                document.getViewCount()
+        );
+    }
+}
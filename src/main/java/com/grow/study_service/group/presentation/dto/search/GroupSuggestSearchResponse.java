@@ -0,0 +1,14 @@
+package com.grow.study_service.group.presentation.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class GroupSuggestSearchResponse {
+
+    private List<String> suggestions; // 자동 완성 추천 검색어 (최대 5개)
+    private GroupSearchResponse search; // 첫 페이지 검색 결과 (다음 페이지는 nextCursor 또는 /search 로 조회)
+}
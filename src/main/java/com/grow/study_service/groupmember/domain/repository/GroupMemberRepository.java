@@ -1,5 +1,6 @@
 package com.grow.study_service.groupmember.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.grow.study_service.groupmember.domain.model.GroupMember;
@@ -7,6 +8,7 @@ import jakarta.validation.constraints.NotNull;
 
 public interface GroupMemberRepository {
 	GroupMember save(GroupMember member);
+	void insertAllIgnoringDuplicates(List<GroupMember> members);
 	Optional<GroupMember> findById(Long groupMemberId);
 	void delete(GroupMember member);
 	Optional<GroupMember> findGroupMemberByMemberIdAndGroupId(Long memberId, Long groupId);
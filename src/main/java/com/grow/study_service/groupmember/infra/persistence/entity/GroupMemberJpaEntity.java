@@ -13,7 +13,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @Builder
-@Table(name = "group_member")
+@Table(name = "group_member", indexes = {
+		@Index(name = "idx_group_member_group_role", columnList = "group_id, role") // 그룹별 리더 조회 (목록 조인)
+}, uniqueConstraints = {
+		@UniqueConstraint(name = "uk_group_member_group_member", columnNames = {"group_id", "member_id"}) // 같은 그룹 중복 가입 방지 (결제 완료 이벤트 재전달 시 멱등 저장)
+})
 @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class GroupMemberJpaEntity {
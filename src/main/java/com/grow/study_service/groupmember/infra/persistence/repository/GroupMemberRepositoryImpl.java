@@ -1,9 +1,13 @@
 package com.grow.study_service.groupmember.infra.persistence.repository;
 
+import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
 
 import com.grow.study_service.groupmember.domain.enums.Role;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.grow.study_service.groupmember.domain.model.GroupMember;
 import com.grow.study_service.groupmember.domain.repository.GroupMemberRepository;
@@ -16,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 public class GroupMemberRepositoryImpl implements GroupMemberRepository {
 
 	private final GroupMemberJpaRepository groupMemberJpaRepository;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public GroupMember save(GroupMember groupMember) {
@@ -24,6 +29,30 @@ public class GroupMemberRepositoryImpl implements GroupMemberRepository {
 		);
 	}
 
+	/**
+	 * 그룹 멤버를 JDBC 배치 한 번으로 저장합니다. 이미 같은 (group_id, member_id) 멤버가 있으면 건너뜁니다.
+	 * uk_group_member_group_member 유니크 제약에 걸린 행은 ON DUPLICATE KEY UPDATE id = id 로 아무것도 바꾸지 않으므로
+	 * 같은 이벤트가 다시 전달되어도 중복 멤버가 생기거나 예외가 발생하지 않습니다. (다른 오류는 그대로 발생)
+	 *
+	 * @param members 저장할 그룹 멤버 (ID 없음)
+	 */
+	@Override
+	@Transactional
+	public void insertAllIgnoringDuplicates(List<GroupMember> members) {
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO group_member (member_id, group_id, role, joined_at, total_attendance_days, version) "
+						+ "VALUES (?, ?, ?, ?, ?, 0) ON DUPLICATE KEY UPDATE id = id",
+				members,
+				members.size(),
+				(ps, member) -> {
+					ps.setLong(1, member.getMemberId());
+					ps.setLong(2, member.getGroupId());
+					ps.setString(3, member.getRole().name());
+					ps.setTimestamp(4, Timestamp.valueOf(member.getJoinedAt()));
+					ps.setInt(5, member.getTotalAttendanceDays());
+				});
+	}
+
 	@Override
 	public Optional<GroupMember> findById(Long groupMemberId) {
 		return groupMemberJpaRepository.findById(groupMemberId)
@@ -0,0 +1,71 @@
+package com.grow.study_service.test.member;
+
+import com.grow.study_service.group.application.api.MemberApiServiceImpl.MemberInfo;
+import com.grow.study_service.group.application.api.MemberApiServiceImpl.MemberNameInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 개발/부하 테스트용 멤버 서비스 대체 API (member.stub.enabled=true 일 때만 등록)
+ * 실제 멤버 서비스 없이 닉네임 단건/벌크 조회, 가입 요청 정보 조회를 흉내 냅니다.
+ *
+ * <p>지연 주입: 모든 응답은 member.stub.delay-ms 만큼 지연되고, member.stub.slow-ratio 비율의 응답은
+ * member.stub.slow-delay-ms 만큼 지연됩니다. (느린 파드를 흉내 내 헤지 요청/지연 예산 검증용)
+ * 지연은 스레드를 재우지 않고 응답 Mono 를 늦춰서 처리합니다.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/test/members")
+@ConditionalOnProperty(name = "member.stub.enabled", havingValue = "true")
+public class MemberStubController {
+
+    @Value("${member.stub.delay-ms:0}")
+    private long delayMillis;
+
+    @Value("${member.stub.slow-ratio:0}")
+    private double slowRatio;
+
+    @Value("${member.stub.slow-delay-ms:2000}")
+    private long slowDelayMillis;
+
+    // 닉네임 단건 조회 (member.name.path 대체)
+    @GetMapping("/{memberId}/name")
+    public Mono<String> getMemberName(@PathVariable("memberId") Long memberId) {
+        return delayed(nicknameOf(memberId));
+    }
+
+    // 닉네임 벌크 조회 (member.names.path 대체)
+    @PostMapping("/names")
+    public Mono<List<MemberNameInfo>> getMemberNames(@RequestBody List<Long> memberIds) {
+        log.info("[MEMBER STUB] 닉네임 벌크 조회 size={}", memberIds.size());
+
+        return delayed(memberIds.stream()
+                .map(id -> new MemberNameInfo(id, nicknameOf(id)))
+                .toList());
+    }
+
+    // 닉네임 + 신뢰도 점수 조회 (member.info.path 대체)
+    @GetMapping("/{memberId}/info")
+    public Mono<MemberInfo> getMemberInfo(@PathVariable("memberId") Long memberId) {
+        return delayed(MemberInfo.resolved(memberId, nicknameOf(memberId), 36.5));
+    }
+
+    private <T> Mono<T> delayed(T body) {
+        long delay = ThreadLocalRandom.current().nextDouble() < slowRatio ? slowDelayMillis : delayMillis;
+
+        return delay > 0
+                ? Mono.just(body).delayElement(Duration.ofMillis(delay))
+                : Mono.just(body);
+    }
+
+    private String nicknameOf(Long memberId) {
+        return "member-" + memberId;
+    }
+}
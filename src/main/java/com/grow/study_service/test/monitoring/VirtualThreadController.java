@@ -0,0 +1,24 @@
+package com.grow.study_service.test.monitoring;
+
+import com.grow.study_service.common.monitoring.VirtualThreadPinningMonitor;
+import com.grow.study_service.common.monitoring.VirtualThreadPinningMonitor.HotSpotReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadController {
+
+    private final VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+
+    // 가상 스레드 pinning 발생 위치 (누적 시간 순)
+    @GetMapping("/virtual-threads/pinning")
+    public List<HotSpotReport> pinning() {
+        return virtualThreadPinningMonitor.report();
+    }
+}
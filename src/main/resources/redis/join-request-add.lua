@@ -0,0 +1,17 @@
+-- 그룹 가입 요청 추가 (만료된 요청 정리 + ZADD + PEXPIRE 를 한 번에)
+-- KEYS[1] = 그룹 가입 요청 ZSET 키 (score = 요청 시각 ms)
+-- ARGV[1] = 멤버 ID, ARGV[2] = 요청 시각(ms, 새 요청은 현재 시각 / 롤백 복구는 원래 요청 시각),
+-- ARGV[3] = 만료 기준 시각(ms, 이보다 먼저 보낸 요청은 만료), ARGV[4] = 이 요청이 만료될 때까지 남은 시간(ms)
+-- 반환: 1 = 추가됨, 0 = 이미 요청이 있거나 이미 만료된 요청
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])
+if tonumber(ARGV[2]) < tonumber(ARGV[3]) then
+    return 0
+end
+if redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1]) == 0 then
+    return 0
+end
+-- 가장 늦게 만료되는 요청 시점에 키 전체가 사라지도록 TTL 은 늘리기만 함 (각 요청의 만료 시점은 score 로 판단)
+if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[4]) then
+    redis.call('PEXPIRE', KEYS[1], ARGV[4])
+end
+return 1
@@ -0,0 +1,30 @@
+-- 그룹 가입 요청 한 페이지 조회 (만료된 요청 정리 + 요청 시각 순 ZRANGEBYSCORE ... LIMIT)
+-- KEYS[1] = 그룹 가입 요청 ZSET 키
+-- ARGV[1] = 만료 기준 시각(ms), ARGV[2] = 커서 요청 시각(첫 페이지면 빈 문자열), ARGV[3] = 커서 멤버 ID, ARGV[4] = 최대 개수
+-- 반환: {멤버 ID, 요청 시각, 멤버 ID, 요청 시각, ...}
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[1])
+
+local limit = tonumber(ARGV[4])
+local result = {}
+local min = '-inf'
+
+if ARGV[2] ~= '' then
+    -- 커서와 같은 시각의 요청은 ZSET 과 같은 순서(멤버 문자열 사전 순)로 커서 뒤의 것만
+    local ties = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[2], ARGV[2])
+    for _, member in ipairs(ties) do
+        if #result < limit * 2 and member > ARGV[3] then
+            table.insert(result, member)
+            table.insert(result, ARGV[2])
+        end
+    end
+    min = '(' .. ARGV[2]
+end
+
+local remaining = limit - #result / 2
+if remaining > 0 then
+    local rest = redis.call('ZRANGEBYSCORE', KEYS[1], min, '+inf', 'WITHSCORES', 'LIMIT', 0, remaining)
+    for _, value in ipairs(rest) do
+        table.insert(result, value)
+    end
+end
+return result
@@ -0,0 +1,14 @@
+-- 그룹 가입 요청 삭제 (만료된 요청 정리 + EXISTS + ZSCORE + ZREM 을 한 번에, 수락/거절 중 먼저 도착한 요청만 성공)
+-- KEYS[1] = 그룹 가입 요청 ZSET 키, ARGV[1] = 멤버 ID, ARGV[2] = 만료 기준 시각(ms)
+-- 반환: 요청 시각(ms, > 0) = 삭제됨 (롤백 시 같은 시각으로 되돌리기 위해 반환),
+--       0 = 해당 멤버의 요청이 없음 (요청하지 않았거나 이미 처리/만료됨), -1 = 그룹에 요청이 하나도 없음
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[2])
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+local requestedAt = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not requestedAt then
+    return 0
+end
+redis.call('ZREM', KEYS[1], ARGV[1])
+return tonumber(requestedAt)
@@ -0,0 +1,7 @@
+-- 분산 락 해제 (자신이 잡은 락일 때만 삭제, 만료 후 다른 인스턴스가 잡은 락을 지우지 않음)
+-- KEYS[1] = 락 키, ARGV[1] = 락을 잡을 때 저장한 토큰
+-- 반환: 1 = 해제됨, 0 = 자신의 락이 아님 (이미 만료되었거나 다른 인스턴스가 보유)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
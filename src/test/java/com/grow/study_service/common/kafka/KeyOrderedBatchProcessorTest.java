@@ -0,0 +1,127 @@
+package com.grow.study_service.common.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeyOrderedBatchProcessor 키 순서 병렬 처리 테스트")
+class KeyOrderedBatchProcessorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor("test", 2, meterRegistry);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.close();
+    }
+
+    // Integer 키는 hashCode 가 자기 값이라 workers=2 에서 짝수 키는 샤드 0, 홀수 키는 샤드 1 로 나뉨
+    private record Item(Integer key, int recordIndex, long timestamp) implements KeyOrderedBatchProcessor.KeyedItem {
+    }
+
+    private List<Item> items(Integer... keys) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            items.add(new Item(keys[i], i, System.currentTimeMillis()));
+        }
+        return items;
+    }
+
+    @Nested
+    class SuccessCases {
+
+        @Test
+        @DisplayName("같은 키의 항목은 수신 순서대로 처리된다")
+        void sameKey_keepsOrder() {
+            List<Item> items = items(0, 1, 0, 1, 0, 1, 0, 1, 0, 1);
+            Map<Integer, List<Integer>> processed = new ConcurrentHashMap<>();
+
+            processor.process(items, shard -> shard.forEach(item -> processed
+                    .computeIfAbsent(item.key(), k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(item.recordIndex())));
+
+            assertThat(processed.get(0)).containsExactly(0, 2, 4, 6, 8);
+            assertThat(processed.get(1)).containsExactly(1, 3, 5, 7, 9);
+            assertThat(meterRegistry.get("kafka.key-ordered.lag").timer().count()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("빈 배치는 처리 함수를 호출하지 않는다")
+        void emptyBatch() {
+            List<List<Item>> calls = new CopyOnWriteArrayList<>();
+
+            processor.process(List.of(), calls::add);
+
+            assertThat(calls).isEmpty();
+            assertThat(meterRegistry.get("kafka.key-ordered.lag").timer().count()).isZero();
+        }
+    }
+
+    @Nested
+    class FailureCases {
+
+        @Test
+        @DisplayName("한 샤드가 실패하면 다른 샤드는 끝까지 처리하고, 실패한 샤드의 가장 앞 위치로 예외 발생")
+        void oneShardFails_lowestIndexOfFailedShard() {
+            List<Item> items = items(0, 1, 0, 1);
+            List<Integer> processed = new CopyOnWriteArrayList<>();
+
+            assertThatThrownBy(() -> processor.process(items, shard -> {
+                if (shard.getFirst().key() == 1) {
+                    throw new IllegalStateException("샤드 실패");
+                }
+                shard.forEach(item -> processed.add(item.recordIndex()));
+            }))
+                    .isInstanceOf(BatchListenerFailedException.class)
+                    .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(1));
+
+            assertThat(processed).containsExactly(0, 2);
+        }
+
+        @Test
+        @DisplayName("샤드 처리 함수가 실패 항목을 알려 주면 샤드 첫 항목이 아닌 그 항목의 위치로 예외 발생")
+        void itemFailed_reportsFailingItemIndex() {
+            List<Item> items = items(0, 1, 0, 1, 0);
+            List<Integer> processed = new CopyOnWriteArrayList<>();
+
+            assertThatThrownBy(() -> processor.process(items, shard -> {
+                for (Item item : shard) {
+                    if (item.recordIndex() == 2) { // 샤드 0 = [0, 2, 4] 의 두 번째 항목
+                        throw new KeyOrderedBatchProcessor.ItemFailedException(item, new IllegalStateException("항목 실패"));
+                    }
+                    processed.add(item.recordIndex());
+                }
+            }))
+                    .isInstanceOf(BatchListenerFailedException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(2));
+
+            assertThat(processed).containsExactlyInAnyOrder(0, 1, 3);
+        }
+
+        @Test
+        @DisplayName("여러 샤드가 실패하면 가장 앞의 실패 위치로 예외 발생")
+        void allShardsFail_lowestIndex() {
+            List<Item> items = items(1, 0, 1, 0);
+
+            assertThatThrownBy(() -> processor.process(items, shard -> {
+                throw new IllegalStateException("샤드 실패");
+            }))
+                    .isInstanceOf(BatchListenerFailedException.class)
+                    .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isZero());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.grow.study_service.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HangulUtils 초성/자모 변환 테스트")
+class HangulUtilsTest {
+
+    @Nested
+    class SuccessCases {
+
+        @Test
+        @DisplayName("한글 음절은 초성으로 바꾸고 나머지 문자는 그대로 둔다")
+        void toChosung() {
+            assertThat(HangulUtils.toChosung("자바 스터디")).isEqualTo("ㅈㅂ ㅅㅌㄷ");
+            assertThat(HangulUtils.toChosung("Spring 모임")).isEqualTo("Spring ㅁㅇ");
+        }
+
+        @Test
+        @DisplayName("겹받침과 이중모음까지 입력 순서대로 분해한다")
+        void toJamo() {
+            assertThat(HangulUtils.toJamo("자바")).isEqualTo("ㅈㅏㅂㅏ");
+            assertThat(HangulUtils.toJamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+            assertThat(HangulUtils.toJamo("과")).isEqualTo("ㄱㅗㅏ");
+            assertThat(HangulUtils.toJamo("ㄳ")).isEqualTo("ㄱㅅ");
+        }
+
+        @Test
+        @DisplayName("입력 중인 글자의 자모는 완성된 글자 자모의 접두사이다")
+        void toJamo_typingPrefix() {
+            assertThat(HangulUtils.toJamo("자바")).startsWith(HangulUtils.toJamo("잡"));
+        }
+
+        @Test
+        @DisplayName("자음 낱자로만 이루어진 검색어를 초성 검색어로 판별한다")
+        void isChosungOnly() {
+            assertThat(HangulUtils.isChosungOnly("ㅈㅂ ㅅㅌ")).isTrue();
+        }
+    }
+
+    @Nested
+    class FailureCases {
+
+        @Test
+        @DisplayName("완성된 글자나 영문이 섞였거나 비어 있으면 초성 검색어가 아니다")
+        void isChosungOnly_false() {
+            assertThat(HangulUtils.isChosungOnly("ㅈ바")).isFalse();
+            assertThat(HangulUtils.isChosungOnly("ㅈa")).isFalse();
+            assertThat(HangulUtils.isChosungOnly(" ")).isFalse();
+        }
+    }
+}
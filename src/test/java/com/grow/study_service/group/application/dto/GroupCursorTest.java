@@ -0,0 +1,104 @@
+package com.grow.study_service.group.application.dto;
+
+import com.grow.study_service.common.exception.ErrorCode;
+import com.grow.study_service.common.exception.service.ServiceException;
+import com.grow.study_service.group.domain.enums.Category;
+import com.grow.study_service.group.domain.enums.GroupSortType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GroupCursor 커서 토큰 인코딩/디코딩 테스트")
+class GroupCursorTest {
+
+    private GroupWithLeader lastGroup() {
+        return new GroupWithLeader(120L, "자바 스터디", Category.STUDY, "설명", 0,
+                null, null, LocalDate.of(2025, 8, 7), 42, 10L);
+    }
+
+    @Nested
+    class SuccessCases {
+
+        @Test
+        @DisplayName("최신순 커서를 인코딩한 뒤 디코딩하면 같은 위치를 가리킨다")
+        void startAtCursor_roundTrip() {
+            String token = GroupCursor.next(GroupSortType.START_AT, lastGroup()).encode();
+
+            GroupCursor decoded = GroupCursor.decode(GroupSortType.START_AT, token);
+
+            assertThat(decoded.isFirstPage()).isFalse();
+            assertThat(decoded.getStartAt()).isEqualTo(LocalDate.of(2025, 8, 7));
+            assertThat(decoded.getGroupId()).isEqualTo(120L);
+        }
+
+        @Test
+        @DisplayName("조회수순 커서를 인코딩한 뒤 디코딩하면 같은 위치를 가리킨다")
+        void viewCountCursor_roundTrip() {
+            String token = GroupCursor.next(GroupSortType.VIEW_COUNT, lastGroup()).encode();
+
+            GroupCursor decoded = GroupCursor.decode(GroupSortType.VIEW_COUNT, token);
+
+            assertThat(decoded.getViewCount()).isEqualTo(42);
+            assertThat(decoded.getGroupId()).isEqualTo(120L);
+        }
+
+        @Test
+        @DisplayName("시작 날짜가 없는 그룹의 최신순 커서도 인코딩/디코딩된다")
+        void startAtCursor_nullStartAt_roundTrip() {
+            GroupWithLeader noStartAt = new GroupWithLeader(121L, "날짜 미정 스터디", Category.STUDY, "설명", 0,
+                    null, null, null, 0, 10L);
+            String token = GroupCursor.next(GroupSortType.START_AT, noStartAt).encode();
+
+            GroupCursor decoded = GroupCursor.decode(GroupSortType.START_AT, token);
+
+            assertThat(decoded.isFirstPage()).isFalse();
+            assertThat(decoded.getStartAt()).isNull();
+            assertThat(decoded.getGroupId()).isEqualTo(121L);
+        }
+
+        @Test
+        @DisplayName("커서가 없으면 첫 페이지 커서를 반환한다")
+        void blankToken_firstPage() {
+            assertThat(GroupCursor.decode(GroupSortType.START_AT, null).isFirstPage()).isTrue();
+            assertThat(GroupCursor.decode(GroupSortType.START_AT, " ").isFirstPage()).isTrue();
+        }
+    }
+
+    @Nested
+    class FailureCases {
+
+        @Test
+        @DisplayName("정렬 기준이 다른 커서를 전달하면 예외 발생")
+        void sortTypeMismatch() {
+            String token = GroupCursor.next(GroupSortType.START_AT, lastGroup()).encode();
+
+            assertThatThrownBy(() -> GroupCursor.decode(GroupSortType.VIEW_COUNT, token))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+
+        @Test
+        @DisplayName("손상된 커서를 전달하면 예외 발생")
+        void malformedToken() {
+            assertThatThrownBy(() -> GroupCursor.decode(GroupSortType.START_AT, "not-a-cursor!"))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 정렬 기준이면 예외 발생")
+        void invalidSortBy() {
+            assertThatThrownBy(() -> GroupCursor.parseSortType("rating"))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_SORT_BY_VALUE);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.grow.study_service.group.application.dto;
+
+import com.grow.study_service.common.exception.ErrorCode;
+import com.grow.study_service.common.exception.service.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GroupSearchCursor 검색 커서 토큰 인코딩/디코딩 테스트")
+class GroupSearchCursorTest {
+
+    private static final String SORT_KEY = "startAt:DESC";
+
+    @Nested
+    class SuccessCases {
+
+        @Test
+        @DisplayName("커서를 인코딩한 뒤 디코딩하면 같은 정렬 값, point-in-time, 검색 단계를 가리킨다")
+        void roundTrip() {
+            String token = GroupSearchCursor.of(SORT_KEY, "pit-1", List.of(1754524800000L, "120"), true).encode();
+
+            GroupSearchCursor decoded = GroupSearchCursor.decode(SORT_KEY, token);
+
+            assertThat(decoded.getPointInTimeId()).isEqualTo("pit-1");
+            assertThat(decoded.getSearchAfter()).containsExactly(1754524800000L, "120");
+            assertThat(decoded.isFuzzy()).isTrue();
+        }
+
+        @Test
+        @DisplayName("from/size 페이지에서 만든 커서는 point-in-time 이 없다")
+        void withoutPointInTime() {
+            String token = GroupSearchCursor.of(SORT_KEY, null, List.of(1754524800000L, "120"), false).encode();
+
+            assertThat(GroupSearchCursor.decode(SORT_KEY, token).getPointInTimeId()).isNull();
+        }
+    }
+
+    @Nested
+    class FailureCases {
+
+        @Test
+        @DisplayName("정렬 기준이 다른 커서를 전달하면 예외 발생")
+        void sortKeyMismatch() {
+            String token = GroupSearchCursor.of(SORT_KEY, "pit-1", List.of(42, "120"), false).encode();
+
+            assertThatThrownBy(() -> GroupSearchCursor.decode("viewCount:DESC", token))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+
+        @Test
+        @DisplayName("손상된 커서를 전달하면 예외 발생")
+        void malformedToken() {
+            assertThatThrownBy(() -> GroupSearchCursor.decode(SORT_KEY, "not-a-cursor!"))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
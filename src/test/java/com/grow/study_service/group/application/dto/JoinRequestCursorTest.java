@@ -0,0 +1,50 @@
+package com.grow.study_service.group.application.dto;
+
+import com.grow.study_service.common.exception.ErrorCode;
+import com.grow.study_service.common.exception.service.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JoinRequestCursor 가입 요청 커서 토큰 인코딩/디코딩 테스트")
+class JoinRequestCursorTest {
+
+    @Nested
+    class SuccessCases {
+
+        @Test
+        @DisplayName("커서를 인코딩한 뒤 디코딩하면 같은 요청 시각과 멤버를 가리킨다")
+        void roundTrip() {
+            String token = JoinRequestCursor.next(new PendingJoinRequest(42L, 1754524800000L)).encode();
+
+            JoinRequestCursor decoded = JoinRequestCursor.decode(token);
+
+            assertThat(decoded.isFirstPage()).isFalse();
+            assertThat(decoded.getRequestedAt()).isEqualTo(1754524800000L);
+            assertThat(decoded.getMemberId()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("토큰이 없으면 첫 페이지 커서를 반환한다")
+        void emptyToken_firstPage() {
+            assertThat(JoinRequestCursor.decode(null).isFirstPage()).isTrue();
+            assertThat(JoinRequestCursor.decode(" ").isFirstPage()).isTrue();
+        }
+    }
+
+    @Nested
+    class FailureCases {
+
+        @Test
+        @DisplayName("손상된 커서를 전달하면 예외 발생")
+        void malformedToken() {
+            assertThatThrownBy(() -> JoinRequestCursor.decode("not-a-cursor!"))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
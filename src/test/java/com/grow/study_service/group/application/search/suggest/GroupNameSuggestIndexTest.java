@@ -0,0 +1,118 @@
+package com.grow.study_service.group.application.search.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GroupNameSuggestIndex 자동 완성 접두사 인덱스 테스트")
+class GroupNameSuggestIndexTest {
+
+    private GroupNameSuggestIndex indexOf(String... names) {
+        GroupNameSuggestIndex index = new GroupNameSuggestIndex(5);
+        for (int i = 0; i < names.length; i++) {
+            index.upsert(i + 1, names[i], i); // 뒤에 넣은 이름일수록 조회수가 높음
+        }
+        return index;
+    }
+
+    @Nested
+    class SuccessCases {
+
+        @Test
+        @DisplayName("접두사로 시작하는 이름을 조회수 높은 순으로 반환한다")
+        void suggest_orderedByScore() {
+            GroupNameSuggestIndex index = indexOf("자바 스터디", "자바스크립트 모임", "자료구조 스터디", "파이썬 스터디");
+
+            assertThat(index.suggest("자")).containsExactly("자료구조 스터디", "자바스크립트 모임", "자바 스터디");
+            assertThat(index.suggest("자바")).containsExactly("자바스크립트 모임", "자바 스터디");
+        }
+
+        @Test
+        @DisplayName("이름 중간 단어의 접두사로도 찾을 수 있고, 대소문자를 구분하지 않는다")
+        void suggest_byWordPrefix() {
+            GroupNameSuggestIndex index = indexOf("Spring Boot 스터디", "알고리즘 스터디");
+
+            assertThat(index.suggest("boot")).containsExactly("Spring Boot 스터디");
+            assertThat(index.suggest("스터")).containsExactly("알고리즘 스터디", "Spring Boot 스터디");
+        }
+
+        @Test
+        @DisplayName("초성이나 입력 중인 글자로도 찾을 수 있다")
+        void suggest_byChosungAndJamo() {
+            GroupNameSuggestIndex index = indexOf("자바 스터디", "자료구조 모임");
+
+            assertThat(index.suggest("ㅈㅂ")).containsExactly("자바 스터디");
+            assertThat(index.suggest("ㅅㅌ")).containsExactly("자바 스터디");
+            assertThat(index.suggest("ㅈㅂㅅㅌ")).containsExactly("자바 스터디");
+            assertThat(index.suggest("잡")).containsExactly("자바 스터디");
+        }
+
+        @Test
+        @DisplayName("최대 5개까지만 반환한다")
+        void suggest_limit() {
+            GroupNameSuggestIndex index = indexOf("a1", "a2", "a3", "a4", "a5", "a6", "a7");
+
+            assertThat(index.suggest("a")).containsExactly("a7", "a6", "a5", "a4", "a3");
+        }
+
+        @Test
+        @DisplayName("이름이 바뀌면 이전 이름으로는 더 이상 찾을 수 없다")
+        void upsert_rename() {
+            GroupNameSuggestIndex index = indexOf("자바 스터디", "자바 모임");
+
+            index.upsert(1, "코틀린 스터디", 0);
+
+            assertThat(index.suggest("자바")).containsExactly("자바 모임");
+            assertThat(index.suggest("코틀")).containsExactly("코틀린 스터디");
+            assertThat(index.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("조회수가 바뀌면 순위가 갱신되고, 그대로면 갱신하지 않는다")
+        void upsertIfChanged_reordersByNewScore() {
+            GroupNameSuggestIndex index = indexOf("자바 스터디", "자바 모임");
+
+            assertThat(index.upsertIfChanged(1, "자바 스터디", 10)).isTrue();
+            assertThat(index.upsertIfChanged(2, "자바 모임", 1)).isFalse();
+
+            assertThat(index.suggest("자바")).containsExactly("자바 스터디", "자바 모임");
+        }
+
+        @Test
+        @DisplayName("이미 있는 그룹은 putIfAbsent 로 덮어쓰지 않는다")
+        void putIfAbsent_keepsLatest() {
+            GroupNameSuggestIndex index = indexOf("새 이름");
+
+            index.putIfAbsent(1, "예전 이름", 0);
+
+            assertThat(index.suggest("새")).containsExactly("새 이름");
+            assertThat(index.suggest("예전")).isEmpty();
+        }
+    }
+
+    @Nested
+    class FailureCases {
+
+        @Test
+        @DisplayName("일치하는 이름이 없거나 검색어가 비어 있으면 빈 목록을 반환한다")
+        void suggest_noMatch() {
+            GroupNameSuggestIndex index = indexOf("자바 스터디");
+
+            assertThat(index.suggest("파이")).isEmpty();
+            assertThat(index.suggest("자바 스터디 모임")).isEmpty();
+            assertThat(index.suggest(" ")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("삭제한 그룹은 추천되지 않는다")
+        void remove() {
+            GroupNameSuggestIndex index = indexOf("자바 스터디", "자바 모임");
+
+            index.remove(2);
+
+            assertThat(index.suggest("자바")).containsExactly("자바 스터디");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.grow.study_service.group.application.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GroupViewCountBuffer 조회수 버퍼 테스트")
+class GroupViewCountBufferTest {
+
+    private final GroupViewCountBuffer buffer = new GroupViewCountBuffer();
+
+    @Nested
+    class SuccessCases {
+
+        @Test
+        @DisplayName("증가와 비우기가 동시에 일어나도 비운 값의 합은 증가 횟수와 같다")
+        void concurrentIncrementAndDrain_sumMatches() throws InterruptedException {
+            int threads = 8;
+            int incrementsPerThread = 50_000;
+            AtomicLong drained = new AtomicLong();
+            AtomicBoolean incrementing = new AtomicBoolean(true);
+            CountDownLatch start = new CountDownLatch(1);
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        buffer.increment((long) (i % 3)); // 소수의 인기 그룹에 경합 집중
+                    }
+                    return null;
+                });
+            }
+            executor.submit(() -> {
+                start.await();
+                while (incrementing.get()) {
+                    buffer.drain().values().forEach(drained::addAndGet);
+                }
+                return null;
+            });
+
+            start.countDown();
+            executor.shutdown();
+            // 증가 스레드가 끝날 때까지 대기한 뒤 비우기 스레드 종료
+            while (!executor.awaitTermination(10, TimeUnit.MILLISECONDS)) {
+                if (executor.isShutdown() && ((java.util.concurrent.ThreadPoolExecutor) executor).getActiveCount() <= 1) {
+                    incrementing.set(false);
+                }
+            }
+            buffer.drain().values().forEach(drained::addAndGet);
+
+            assertThat(drained.get()).isEqualTo((long) threads * incrementsPerThread);
+        }
+
+        @Test
+        @DisplayName("비운 그룹은 버퍼에서 제거되고, 되돌린 증가분은 다음 비우기에 포함된다")
+        void drain_evictsAndRestoreAdds() {
+            buffer.increment(1L);
+            buffer.increment(1L);
+
+            Map<Long, Long> first = buffer.drain();
+            assertThat(first).containsExactlyEntriesOf(Map.of(1L, 2L));
+            assertThat(buffer.drain()).isEmpty();
+
+            buffer.restore(first);
+            buffer.increment(1L);
+            assertThat(buffer.drain()).containsExactlyEntriesOf(Map.of(1L, 3L));
+        }
+    }
+}